@@ -0,0 +1,45 @@
+package com.wordle.benchmark;
+
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.FeedbackPartition;
+import com.wordle.utils.WordStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the adversarial answer choice for one guess: partitioning the whole
+ * dictionary by feedback and keeping the largest bucket.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AdversarialBenchmark {
+    @Param({"2000", "12000", "50000"})
+    public int words;
+
+    private FeedbackPartition partition;
+    private int[] all;
+    private int[] candidates;
+    private long packedGuess;
+
+    @Setup
+    public void setup() {
+        partition = new FeedbackPartition(WordStore.of(BenchmarkWords.generate(words, 42)));
+        all = new int[words];
+        for (int i = 0; i < words; i++) {
+            all[i] = i;
+        }
+        candidates = new int[words];
+        packedGuess = FeedbackCalculator.pack(BenchmarkWords.generate(1, 43).get(0));
+    }
+
+    @Benchmark
+    public int keepLargest() {
+        System.arraycopy(all, 0, candidates, 0, words);
+        return partition.keepLargest(candidates, words, packedGuess);
+    }
+}
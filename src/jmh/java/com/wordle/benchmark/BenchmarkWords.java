@@ -0,0 +1,48 @@
+package com.wordle.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic word lists for benchmarks.
+ */
+final class BenchmarkWords {
+    private static final String LETTERS = "EEEAAORRIITTNNSSLLCUDPMHGBFYWKVXZJQ";
+
+    private BenchmarkWords() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Generates uppercase 5-letter words drawn with a rough English letter frequency.
+     *
+     * @param count the number of words
+     * @param seed the random seed
+     * @return the words
+     */
+    static List<String> generate(int count, long seed) {
+        return generate(count, seed, 5);
+    }
+
+    /**
+     * Generates uppercase words of a given length drawn with a rough English letter frequency.
+     *
+     * @param count the number of words
+     * @param seed the random seed
+     * @param length the word length
+     * @return the words
+     */
+    static List<String> generate(int count, long seed, int length) {
+        Random random = new Random(seed);
+        List<String> words = new ArrayList<>(count);
+        char[] word = new char[length];
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < word.length; j++) {
+                word[j] = LETTERS.charAt(random.nextInt(LETTERS.length()));
+            }
+            words.add(new String(word));
+        }
+        return words;
+    }
+}
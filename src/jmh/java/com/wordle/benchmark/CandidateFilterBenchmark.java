@@ -0,0 +1,71 @@
+package com.wordle.benchmark;
+
+import com.wordle.Hint;
+import com.wordle.utils.CandidateSet;
+import com.wordle.utils.ConstraintIndex;
+import com.wordle.utils.FeedbackCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares narrowing candidates by two guesses through the bitset index against
+ * re-checking every word with {@link FeedbackCalculator#computeFeedback(String, String)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CandidateFilterBenchmark {
+    @Param({"2300", "13000"})
+    public int words;
+
+    private List<String> wordList;
+    private ConstraintIndex index;
+    private String[] guesses;
+    private List<List<Hint>> feedback;
+    private byte[][] encodedGuesses;
+    private int[] codes;
+
+    @Setup
+    public void setup() {
+        wordList = BenchmarkWords.generate(words, 7);
+        index = new ConstraintIndex(wordList);
+        String answer = wordList.get(words / 2);
+        guesses = new String[]{"RAISE", "CLOUT"};
+        feedback = new ArrayList<>();
+        encodedGuesses = new byte[guesses.length][];
+        codes = new int[guesses.length];
+        for (int i = 0; i < guesses.length; i++) {
+            feedback.add(FeedbackCalculator.computeFeedback(answer, guesses[i]));
+            encodedGuesses[i] = FeedbackCalculator.encode(guesses[i]);
+            codes[i] = FeedbackCalculator.encodeHints(feedback.get(i));
+        }
+    }
+
+    @Benchmark
+    public int bitsetIndex() {
+        CandidateSet candidates = index.newCandidateSet();
+        for (int i = 0; i < guesses.length; i++) {
+            candidates.apply(encodedGuesses[i], codes[i]);
+        }
+        return candidates.count();
+    }
+
+    @Benchmark
+    public int bruteForce() {
+        List<String> candidates = wordList;
+        for (int i = 0; i < guesses.length; i++) {
+            String guess = guesses[i];
+            List<Hint> expected = feedback.get(i);
+            candidates = candidates.stream()
+                    .filter(word -> FeedbackCalculator.computeFeedback(word, guess).equals(expected))
+                    .toList();
+        }
+        return candidates.size();
+    }
+}
@@ -0,0 +1,68 @@
+package com.wordle.benchmark;
+
+import com.wordle.Hint;
+import com.wordle.utils.FeedbackCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the feedback implementations, including duplicate-letter cases, and the
+ * fixed 5-letter packed path with the any-length one at length 5.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FeedbackBenchmark {
+    @Param({"WATER:OTTER", "OTTER:OTTER", "BANAL:ALALA", "RADAR:ARRRA", "FRUIT:CHECK"})
+    public String pair;
+
+    private String answer;
+    private String guess;
+    private byte[] encodedAnswer;
+    private byte[] encodedGuess;
+    private long packedAnswer;
+    private long packedGuess;
+    private final int[] letterCounts = new int[FeedbackCalculator.ALPHABET_SIZE];
+
+    @Setup
+    public void setup() {
+        String[] words = pair.split(":");
+        answer = words[0];
+        guess = words[1];
+        encodedAnswer = FeedbackCalculator.encode(answer);
+        encodedGuess = FeedbackCalculator.encode(guess);
+        packedAnswer = FeedbackCalculator.pack(answer);
+        packedGuess = FeedbackCalculator.pack(guess);
+    }
+
+    @Benchmark
+    public List<Hint> computeFeedback() {
+        return FeedbackCalculator.computeFeedback(answer, guess);
+    }
+
+    @Benchmark
+    public List<Hint> computeFeedback1() {
+        return FeedbackCalculator.computeFeedback1(answer, guess);
+    }
+
+    @Benchmark
+    public int computeFeedbackCodeBytes() {
+        return FeedbackCalculator.computeFeedbackCode(encodedAnswer, encodedGuess, letterCounts);
+    }
+
+    @Benchmark
+    public int computeFeedbackCodePacked() {
+        return FeedbackCalculator.computeFeedbackCode(packedAnswer, packedGuess);
+    }
+
+    /** The any-length entry point at length 5, to compare with the fixed 5-letter path. */
+    @Benchmark
+    public int computeFeedbackCodePackedLength() {
+        return FeedbackCalculator.computeFeedbackCode(packedAnswer, packedGuess, FeedbackCalculator.WORD_LENGTH);
+    }
+}
@@ -0,0 +1,55 @@
+package com.wordle.benchmark;
+
+import com.wordle.journal.GameJournal;
+import com.wordle.utils.WordStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures appending guess events to the game journal from several threads, including
+ * the group-committed writes and fsyncs, which {@link #syncAll()} waits for at the end
+ * of every iteration.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class JournalBenchmark {
+    private Path file;
+    private GameJournal journal;
+    private long sessionId;
+    private long packedGuess;
+
+    @Setup
+    public void setup() throws IOException {
+        WordStore words = WordStore.of(BenchmarkWords.generate(1000, 42));
+        file = Files.createTempFile("wordle-bench", ".journal");
+        Files.delete(file);
+        journal = GameJournal.open(file, words);
+        sessionId = journal.startSession(0, 6, false);
+        packedGuess = words.packed(1);
+    }
+
+    @TearDown(Level.Iteration)
+    public void syncAll() {
+        journal.sync();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void appendGuess() {
+        journal.guess(sessionId, 0, packedGuess, 121);
+    }
+}
@@ -0,0 +1,57 @@
+package com.wordle.benchmark;
+
+import com.wordle.GameSession;
+import com.wordle.Hint;
+import com.wordle.utils.FeedbackCalculator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of scoring one guess on every board of a multi-board game: a full
+ * {@link FeedbackCalculator#computeFeedback(String, String)} per board versus
+ * normalizing and packing the guess once and scoring packed answers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MultiBoardBenchmark {
+    @Param({"4", "8", "32"})
+    public int boards;
+
+    private String rawGuess;
+    private List<String> answers;
+    private long[] packedAnswers;
+
+    @Setup
+    public void setup() {
+        answers = BenchmarkWords.generate(boards, 12);
+        packedAnswers = new long[boards];
+        for (int b = 0; b < boards; b++) {
+            packedAnswers[b] = FeedbackCalculator.pack(answers.get(b));
+        }
+        rawGuess = " " + BenchmarkWords.generate(1, 13).get(0).toLowerCase() + "\n";
+    }
+
+    @Benchmark
+    public void perBoard(Blackhole blackhole) {
+        for (String answer : answers) {
+            String guess = GameSession.normalizeGuess(rawGuess);
+            List<Hint> hints = FeedbackCalculator.computeFeedback(answer, guess);
+            blackhole.consume(hints);
+        }
+    }
+
+    @Benchmark
+    public void sharedGuess(Blackhole blackhole) {
+        long guess = FeedbackCalculator.pack(GameSession.normalizeGuess(rawGuess));
+        for (long answer : packedAnswers) {
+            blackhole.consume(FeedbackCalculator.computeFeedbackCode(answer, guess));
+        }
+    }
+}
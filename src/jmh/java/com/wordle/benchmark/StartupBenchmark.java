@@ -0,0 +1,71 @@
+package com.wordle.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time to first prompt: launching the game jar with {@code --startup-probe}
+ * until it reports that the dictionary is ready for the first guess. Compares class
+ * data sharing off, the JDK's default archive and the AppCDS archive built by the
+ * {@code fast-start} profile, so run {@code mvn -Pfast-start package} first.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+    @Param({"off", "default", "appcds"})
+    public String sharing;
+
+    private List<String> command;
+    private Process process;
+
+    @Setup
+    public void setup() {
+        Path jar = Paths.get(System.getProperty("wordle.jar", "target/wordle-cli-1.0.jar"));
+        Path archive = Paths.get(System.getProperty("wordle.archive", "target/wordle-cli.jsa"));
+        if (!Files.isRegularFile(jar) || (sharing.equals("appcds") && !Files.isRegularFile(archive))) {
+            throw new IllegalStateException("Build " + jar + " and " + archive + " with mvn -Pfast-start package first.");
+        }
+        command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        switch (sharing) {
+            case "off" -> command.add("-Xshare:off");
+            case "appcds" -> command.add("-XX:SharedArchiveFile=" + archive);
+            default -> { }
+        }
+        command.addAll(List.of("-jar", jar.toString(), "--startup-probe"));
+    }
+
+    @TearDown(Level.Invocation)
+    public void stopProcess() throws InterruptedException {
+        if (process != null) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    @Benchmark
+    public String timeToFirstPrompt() throws IOException {
+        process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+        BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        String line;
+        while ((line = out.readLine()) != null) {
+            if (line.startsWith("Ready")) {
+                return line;
+            }
+        }
+        throw new IllegalStateException("Game exited before it was ready.");
+    }
+}
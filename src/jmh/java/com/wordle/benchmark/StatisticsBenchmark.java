@@ -0,0 +1,46 @@
+package com.wordle.benchmark;
+
+import com.wordle.metrics.GameStatistics;
+import com.wordle.utils.WordStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures recording finished games from 64 threads at once, all opening with the same
+ * word, with the counters in one stripe against the default striping.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class StatisticsBenchmark {
+    private static final int MAX_ATTEMPTS = 6;
+
+    @Param({"1", "16"})
+    public int stripes;
+
+    private GameStatistics statistics;
+    private int size;
+
+    @Setup
+    public void setup() {
+        WordStore words = WordStore.of(BenchmarkWords.generate(2315, 42));
+        statistics = new GameStatistics(words, MAX_ATTEMPTS, stripes);
+        size = words.size();
+    }
+
+    @State(Scope.Thread)
+    public static class Game {
+        int next;
+    }
+
+    @Benchmark
+    public void recordGame(Game game) {
+        int i = game.next++;
+        statistics.record(i % size, 0, i % MAX_ATTEMPTS + 1, (i & 7) != 0);
+    }
+}
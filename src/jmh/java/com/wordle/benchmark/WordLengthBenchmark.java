@@ -0,0 +1,43 @@
+package com.wordle.benchmark;
+
+import com.wordle.utils.FeedbackCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the packed feedback code at every supported word length, cycling through
+ * random answer and guess pairs so branch prediction cannot learn one pair.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WordLengthBenchmark {
+    private static final int PAIRS = 1 << 12;
+
+    @Param({"4", "5", "6", "7", "8"})
+    public int length;
+
+    private final long[] answers = new long[PAIRS];
+    private final long[] guesses = new long[PAIRS];
+    private int next;
+
+    @Setup
+    public void setup() {
+        List<String> words = BenchmarkWords.generate(2 * PAIRS, 42, length);
+        for (int i = 0; i < PAIRS; i++) {
+            answers[i] = FeedbackCalculator.pack(words.get(2 * i), length);
+            guesses[i] = FeedbackCalculator.pack(words.get(2 * i + 1), length);
+        }
+    }
+
+    @Benchmark
+    public int computeFeedbackCode() {
+        int i = next++ & (PAIRS - 1);
+        return FeedbackCalculator.computeFeedbackCode(answers[i], guesses[i], length);
+    }
+}
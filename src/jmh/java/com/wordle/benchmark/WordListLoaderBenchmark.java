@@ -0,0 +1,54 @@
+package com.wordle.benchmark;
+
+import com.wordle.utils.WordStore;
+import com.wordle.utils.WordListLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading word list files of increasing size. Every tenth line is noise
+ * the loader has to reject.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WordListLoaderBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    public int lines;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        List<String> content = new ArrayList<>(BenchmarkWords.generate(lines, 42));
+        for (int i = 0; i < content.size(); i += 10) {
+            content.set(i, "  " + content.get(i).toLowerCase() + "ing");
+        }
+        file = Files.createTempFile("wordle-bench", ".txt");
+        Files.write(file, content);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<String> load() {
+        return WordListLoader.load(file);
+    }
+
+    @Benchmark
+    public WordStore loadPacked() {
+        return WordListLoader.loadPacked(file);
+    }
+}
@@ -0,0 +1,166 @@
+package com.wordle;
+
+import com.wordle.exception.InvalidGuessException;
+import com.wordle.metrics.Metrics;
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.HardModeConstraints;
+import com.wordle.utils.WordStore;
+
+/**
+ * Rules every game shares, whoever picks the feedback: the attempt limit, how a scored
+ * guess ends the game, and hard mode. {@link GameSession} scores guesses against a
+ * fixed answer, {@link AdversarialSession} against the largest group of remaining
+ * candidates; both go through {@link #checkPlayable(long)} before scoring and
+ * {@link #advance(long, int)} after. {@link MultiBoardSession} scores every unsolved
+ * board and advances once all boards are solved or the attempts run out, see
+ * {@link #advance(boolean)}.
+ */
+abstract class AbstractSession {
+    final WordStore words;
+    final int maxAttempts;
+    final int allGreen;
+    private final HardModeConstraints hardMode;
+    int attempts;
+    volatile GameSession.Status status = GameSession.Status.IN_PROGRESS;
+
+    AbstractSession(WordStore words, int maxAttempts, boolean hardMode) {
+        this(words, maxAttempts, hardMode, false);
+    }
+
+    /**
+     * @param resumed whether the game was started earlier and is picked up from a
+     *                journal, in which case it is counted as resumed rather than started
+     */
+    AbstractSession(WordStore words, int maxAttempts, boolean hardMode, boolean resumed) {
+        this.words = words;
+        this.maxAttempts = maxAttempts;
+        this.allGreen = FeedbackCalculator.allGreen(words.length());
+        this.hardMode = hardMode ? new HardModeConstraints(words.length()) : null;
+        if (resumed) {
+            Metrics.gameResumed();
+        } else {
+            Metrics.gameStarted();
+        }
+    }
+
+    /**
+     * Explains why a normalized guess is not allowed. Outside hard mode every
+     * well-formed guess is allowed.
+     *
+     * @param guess a normalized guess, see {@link GameSession#normalizeGuess(String, int)}
+     * @return a message for the player, or null if the guess is allowed
+     */
+    public synchronized String rejectReason(String guess) {
+        return hardMode == null ? null : rejectReason(FeedbackCalculator.pack(guess, words.length()));
+    }
+
+    /**
+     * Explains why a packed guess is not allowed.
+     *
+     * @param packedGuess a packed guess, see {@link GameSession#parseGuess(String, int)}
+     * @return a message for the player, or null if the guess is allowed
+     */
+    public final synchronized String rejectReason(long packedGuess) {
+        if (hardMode == null) {
+            return null;
+        }
+        if (!words.contains(packedGuess)) {
+            return "Not in word list";
+        }
+        return hardMode.violation(packedGuess);
+    }
+
+    /**
+     * Checks that a guess may be scored. Must hold the lock.
+     *
+     * @param packedGuess the packed guess
+     * @throws IllegalArgumentException if the value is not a packed word of the game's length
+     * @throws IllegalStateException if the game is already over
+     * @throws InvalidGuessException if the guess is not allowed in hard mode
+     */
+    final void checkPlayable(long packedGuess) {
+        if (!FeedbackCalculator.isPacked(packedGuess, words.length())) {
+            throw new IllegalArgumentException("Not a packed " + words.length() + "-letter word: " + packedGuess);
+        }
+        if (status != GameSession.Status.IN_PROGRESS) {
+            throw new IllegalStateException("Game is already over.");
+        }
+        String reason = rejectReason(packedGuess);
+        if (reason != null) {
+            throw new InvalidGuessException(reason);
+        }
+    }
+
+    /**
+     * Counts a scored guess, ends the game if it was solved or out of attempts, and
+     * adds its hints to the hard mode constraints. Must hold the lock.
+     *
+     * @param packedGuess the packed guess
+     * @param code the feedback it got
+     */
+    final void advance(long packedGuess, int code) {
+        if (code != allGreen && hardMode != null) {
+            hardMode.update(packedGuess, code);
+        }
+        advance(code == allGreen);
+    }
+
+    /**
+     * Counts a scored guess and ends the game if it was solved or out of attempts.
+     * Must hold the lock.
+     *
+     * @param solved whether the guess solved the game
+     */
+    final void advance(boolean solved) {
+        attempts++;
+        if (solved) {
+            status = GameSession.Status.SOLVED;
+            Metrics.gameSolved();
+        } else if (attempts >= maxAttempts) {
+            status = GameSession.Status.FAILED;
+            Metrics.gameFailed();
+        }
+    }
+
+    /**
+     * Ends a game that is still in progress, for example on shutdown or when the
+     * player disconnects. Does nothing if the game is already over.
+     */
+    public synchronized void abandon() {
+        if (status == GameSession.Status.IN_PROGRESS) {
+            status = GameSession.Status.INTERRUPTED;
+            Metrics.gameInterrupted();
+            abandoned();
+        }
+    }
+
+    /**
+     * Called under the lock once the game was abandoned.
+     */
+    void abandoned() {
+    }
+
+    public GameSession.Status status() {
+        return status;
+    }
+
+    public boolean isOver() {
+        return status != GameSession.Status.IN_PROGRESS;
+    }
+
+    public int attempts() {
+        return attempts;
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    public int wordLength() {
+        return words.length();
+    }
+
+    public boolean isHardMode() {
+        return hardMode != null;
+    }
+}
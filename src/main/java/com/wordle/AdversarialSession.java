@@ -0,0 +1,87 @@
+package com.wordle;
+
+import com.wordle.exception.InvalidGuessException;
+import com.wordle.metrics.Metrics;
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.FeedbackPartition;
+import com.wordle.utils.WordStore;
+
+/**
+ * State of an adversarial game (Absurdle): there is no answer up front. After each
+ * guess the remaining candidates are split by the feedback they would give, and the
+ * game keeps the largest group and reports its feedback, committing to an answer only
+ * when a single candidate is left and guessed. Like {@link GameSession}, a session is
+ * played from one thread at a time; {@link #abandon()} may be called from any thread.
+ */
+public class AdversarialSession extends AbstractSession {
+    private final FeedbackPartition partition;
+    private final int[] candidates;
+    private int count;
+
+    /**
+     * Starts a game.
+     *
+     * @param words the shared word list
+     * @param maxAttempts the number of guesses allowed
+     * @param hardMode whether guesses must be listed words that reuse every revealed hint
+     */
+    public AdversarialSession(WordStore words, int maxAttempts, boolean hardMode) {
+        super(words, maxAttempts, hardMode);
+        this.partition = new FeedbackPartition(words);
+        this.candidates = new int[words.size()];
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = i;
+        }
+        this.count = candidates.length;
+    }
+
+    /**
+     * Scores a guess against the worst-case group of remaining candidates and advances the game.
+     *
+     * @param guess a normalized guess, see {@link GameSession#normalizeGuess(String, int)}
+     * @return the packed feedback code
+     * @throws IllegalStateException if the game is already over
+     * @throws InvalidGuessException if the guess is not allowed in hard mode
+     */
+    public int guess(String guess) {
+        return guess(FeedbackCalculator.pack(guess, words.length()));
+    }
+
+    /**
+     * Scores a packed guess against the worst-case group of remaining candidates and advances the game.
+     *
+     * @param packedGuess a packed guess, see {@link GameSession#parseGuess(String, int)}
+     * @return the packed feedback code
+     * @throws IllegalArgumentException if the value is not a packed word of the game's length
+     * @throws IllegalStateException if the game is already over
+     * @throws InvalidGuessException if the guess is not allowed in hard mode
+     */
+    public synchronized int guess(long packedGuess) {
+        checkPlayable(packedGuess);
+        long start = Metrics.start();
+        int code = partition.keepLargest(candidates, count, packedGuess);
+        Metrics.feedback().recordSince(start);
+        count = partition.kept();
+        advance(packedGuess, code);
+        return code;
+    }
+
+    /**
+     * Returns the number of words still consistent with every feedback given so far.
+     *
+     * @return the candidate count
+     */
+    public synchronized int remainingCandidates() {
+        return count;
+    }
+
+    /**
+     * Returns a word the game can still claim was the answer: the solved word once the
+     * game is won, otherwise the first remaining candidate.
+     *
+     * @return the answer
+     */
+    public synchronized String answer() {
+        return words.get(candidates[0]);
+    }
+}
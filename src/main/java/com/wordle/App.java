@@ -1,22 +1,111 @@
 package com.wordle;
 
+import com.wordle.analysis.DictionaryAnalyzer;
+import com.wordle.analysis.DictionaryReport;
+import com.wordle.journal.GameJournal;
+import com.wordle.journal.JournalReplay;
+import com.wordle.metrics.GameStatistics;
+import com.wordle.metrics.Metrics;
+import com.wordle.render.TerminalRenderer;
+import com.wordle.server.GameServer;
+import com.wordle.simulation.SimulationReport;
+import com.wordle.simulation.Simulator;
+import com.wordle.solver.DecisionTree;
+import com.wordle.solver.EntropySolver;
+import com.wordle.solver.EntropyStrategy;
+import com.wordle.solver.FirstCandidateStrategy;
+import com.wordle.solver.GuessStrategy;
+import com.wordle.solver.OpeningBook;
+import com.wordle.utils.AnswerPicker;
+import com.wordle.utils.ConstraintIndex;
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.FeedbackMatrix;
 import com.wordle.utils.WordListLoader;
+import com.wordle.utils.WordStore;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Main entry point for the Wordle game.
+ * <p>
+ * Usage: {@code App [--length=4..8] [--boards=N] [--attempts=N] [--hard] [--adversarial] [--simulate] [--threads=N] [--strategy=entropy|first]
+ * [--server] [--port=N] [--metrics=SECONDS] [--tree=FILE] [--compile-tree=FILE] [--matrix=FILE] [--startup-probe]
+ * [--book=FILE] [--hints] [--journal=FILE] [--resume] [--replay=FILE] [--stats] [--analyze=FILE] [--seed=N] [--daily[=YYYY-MM-DD]]
+ * [wordListPath]}
+ * <p>
+ * {@code --tree} suggests a guess before every attempt from a precompiled decision tree,
+ * compiling the file first if it is missing or stale. {@code --compile-tree} only
+ * compiles and saves the tree, then prints its statistics. {@code --book} suggests a
+ * guess from the solver through an opening book of solved positions, warmed up from
+ * the file at startup and written back with the new positions when the game ends;
+ * with {@code --tree} as well, the book takes over once the player leaves the tree.
+ * With several boards, {@code --hints} suggests the guess that tells the most about all
+ * unsolved boards together.
+ * {@code --matrix} caches the feedback of every pair of words in a file, computing it
+ * first if it is missing or stale, and lets {@code --simulate}, {@code --compile-tree}
+ * and {@code --tree} look feedback up instead of computing it.
+ * <p>
+ * An interactive game loads the word list on a background thread while the banner and
+ * introduction print, then builds the tree, book and statistics from it on that thread;
+ * the game only waits for them at the first guess. Journaled games are the exception:
+ * the journal is tied to the word list and opened before the game starts.
+ * {@code --startup-probe} stops once the game could take its first guess; it is the
+ * training run for the AppCDS archive of the {@code fast-start} profile and what the
+ * startup benchmark times.
+ * <p>
+ * {@code --journal} appends every single-board game, interactive or served, to a binary
+ * journal; the shutdown hook ends the running game and flushes the journal. With
+ * {@code --resume} the most recent unfinished interactive game in the journal is continued.
+ * {@code --replay} prints the statistics rebuilt from a journal.
+ * <p>
+ * {@code --stats} aggregates every finished game, interactive or served, into solve
+ * rates per answer, a guess count histogram and the most played first guesses, and
+ * prints them on exit.
+ * <p>
+ * {@code --analyze} reports the word list's letter and position frequencies, its
+ * repeated-letter rate, and the worst and average candidates left by every word as an
+ * opening guess; the report is JSON for a {@code .json} file and CSV otherwise.
+ * <p>
+ * {@code --seed} makes the answers reproducible: the same seed picks the same words,
+ * and the server gives every connection its own stream split from it. {@code --daily}
+ * instead starts every game, interactive or served, with the word of the day, derived
+ * from the date alone.
  */
 public class App {
     private static final String DEFAULT_WORD_LIST = "words.txt";
+    private static final int DEFAULT_PORT = 4242;
     private static final AtomicBoolean isRunning = new AtomicBoolean(true);
+    private static final AtomicReference<WordleGame> activeGame = new AtomicReference<>();
+    private static final AtomicReference<GameJournal> activeJournal = new AtomicReference<>();
+    private static final AtomicReference<GameStatistics> activeStatistics = new AtomicReference<>();
+    private static final int STATISTICS_TOP = 10;
+    private static final int BOOK_CAPACITY = 1 << 16;
+    private static final int ANALYZE_TOP = 10;
     
     public static void main(String[] args) {
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             System.out.println("\nShutting down gracefully...");
             isRunning.set(false);
+            WordleGame game = activeGame.get();
+            if (game != null) {
+                game.interrupt();
+            }
+            GameJournal journal = activeJournal.get();
+            if (journal != null) {
+                journal.close();
+            }
+            GameStatistics statistics = activeStatistics.get();
+            if (statistics != null) {
+                System.out.print(statistics.snapshot().format(STATISTICS_TOP));
+            }
             try {
                 Thread.sleep(1000);
             } catch (InterruptedException e) {
@@ -25,11 +114,30 @@ public class App {
         }));
 
         try {
-            String wordListPath = args.length > 0 ? args[0] : DEFAULT_WORD_LIST;
-            List<String> words = WordListLoader.load(Paths.get(wordListPath));
-            
-            WordleGame game = new WordleGame(words);
-            game.play();
+            Options options = Options.parse(args);
+            // the platform MBean server takes a few hundred ms to start; keep it off the way to the first prompt
+            Thread mbean = new Thread(Metrics::registerMBean, "wordle-mbean");
+            mbean.setDaemon(true);
+            mbean.start();
+            if (options.metricsIntervalSeconds() > 0) {
+                Metrics.startPeriodicDump(Duration.ofSeconds(options.metricsIntervalSeconds()), System.err);
+            }
+            Path wordList = Paths.get(options.wordListPath());
+
+            if (options.replayPath() != null) {
+                WordStore words = WordListLoader.loadPacked(wordList, options.wordLength());
+                System.out.print(JournalReplay.read(Paths.get(options.replayPath()), words).format());
+            } else if (options.analyzePath() != null) {
+                analyze(WordListLoader.loadPacked(wordList, options.wordLength()), options);
+            } else if (options.compileTreePath() != null) {
+                compileTree(WordListLoader.loadPacked(wordList, options.wordLength()), options);
+            } else if (options.simulate()) {
+                simulate(WordListLoader.loadPacked(wordList, options.wordLength()), options);
+            } else if (options.server()) {
+                serve(WordListLoader.loadPacked(wordList, options.wordLength()), options);
+            } else {
+                play(wordList, options);
+            }
         } catch (Exception e) {
             System.err.println("Error: " + e.getMessage());
             e.printStackTrace();
@@ -40,4 +148,321 @@ public class App {
     public static boolean isRunning() {
         return isRunning.get();
     }
+
+    /**
+     * Plays an interactive game, loading the word list in the background until the first guess.
+     */
+    private static void play(Path wordList, Options options) {
+        CompletableFuture<WordStore> words = CompletableFuture.supplyAsync(
+                () -> WordListLoader.loadPacked(wordList, options.wordLength()));
+        int maxAttempts = options.maxAttempts();
+        boolean hardMode = options.hardMode();
+        GameJournal journal = null;
+        JournalReplay.OpenSession resumed = null;
+        if (options.journalPath() != null) {
+            // the journal is tied to the word list, so journaled games wait for it up front
+            Path file = Paths.get(options.journalPath());
+            if (options.resume() && Files.exists(file)) {
+                resumed = JournalReplay.read(file, words.join()).latestUnfinished(GameJournal.Origin.INTERACTIVE).orElse(null);
+            }
+            if (resumed != null) {
+                maxAttempts = resumed.maxAttempts();
+                hardMode = resumed.hardMode();
+            } else if (options.resume()) {
+                System.out.println("No unfinished game to resume, starting a new one.");
+            }
+            journal = openJournal(file, words.join());
+        }
+        WordleGame.Builder setup = WordleGame.loading(words, options.wordLength())
+                .maxAttempts(maxAttempts)
+                .boards(options.boards())
+                .hardMode(hardMode)
+                .adversarial(options.adversarial())
+                .renderer(TerminalRenderer.stdout(options.wordLength()))
+                .answers(answerPicker(options))
+                .journal(journal)
+                .resume(resumed);
+        if (options.statistics()) {
+            int statisticsAttempts = maxAttempts;
+            setup.statistics(words.thenApply(list -> newStatistics(list, statisticsAttempts)));
+        }
+        if (options.startupProbe()) {
+            WordleGame game = setup.build();
+            game.showIntroduction();
+            System.out.println("Ready: " + game.words().size() + " words");
+            return;
+        }
+        // hint sources are built from the word list as soon as it arrives, still behind the first prompt
+        if (options.treePath() != null) {
+            setup.treeHints(words.thenApply(list -> loadTree(Paths.get(options.treePath()), list, options)));
+        }
+        ForkJoinPool pool = null;
+        CompletableFuture<OpeningBook> book = null;
+        WordleGame game = null;
+        try {
+            if (options.bookPath() != null) {
+                ForkJoinPool bookPool = new ForkJoinPool(options.threads());
+                pool = bookPool;
+                book = words.thenApply(list -> {
+                    OpeningBook loaded = new OpeningBook(new EntropySolver(list, bookPool), BOOK_CAPACITY);
+                    loaded.load(Paths.get(options.bookPath()));
+                    return loaded;
+                });
+                setup.bookHints(book);
+            }
+            if (options.hints()) {
+                ForkJoinPool hintPool = new ForkJoinPool(options.threads());
+                pool = hintPool;
+                setup.combinedHints(words.thenApply(list -> new EntropySolver(list, hintPool, loadMatrix(list, options))));
+            }
+            game = setup.build();
+            activeGame.set(game);
+            game.play();
+        } finally {
+            if (journal != null) {
+                journal.close();
+            }
+            // a book is only worth saving once a game was played with it
+            if (game != null && book != null && book.isDone() && !book.isCompletedExceptionally()) {
+                book.join().save(Paths.get(options.bookPath()));
+                System.out.println(book.join().format());
+            }
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static AnswerPicker answerPicker(Options options) {
+        if (options.daily() != null) {
+            return AnswerPicker.daily(options.daily());
+        }
+        return options.seed() != null ? AnswerPicker.seeded(options.seed()) : AnswerPicker.random();
+    }
+
+    private static GameStatistics newStatistics(WordStore words, int maxAttempts) {
+        GameStatistics statistics = new GameStatistics(words, maxAttempts);
+        activeStatistics.set(statistics);
+        return statistics;
+    }
+
+    private static GameJournal openJournal(Path file, WordStore words) {
+        GameJournal journal = GameJournal.open(file, words);
+        activeJournal.set(journal);
+        return journal;
+    }
+
+    /**
+     * Plays every word of the list headlessly and prints the aggregated results.
+     */
+    private static void simulate(WordStore words, Options options) {
+        ForkJoinPool pool = new ForkJoinPool(options.threads());
+        try {
+            ConstraintIndex index = new ConstraintIndex(words);
+            FeedbackMatrix matrix = loadMatrix(words, options);
+            GuessStrategy strategy = switch (options.strategy()) {
+                case "entropy" -> new EntropyStrategy(new EntropySolver(words, pool, matrix), index.newCandidateSet());
+                case "first" -> new FirstCandidateStrategy();
+                default -> throw new IllegalArgumentException("Unknown strategy: " + options.strategy());
+            };
+            SimulationReport report = new Simulator(index, options.maxAttempts(), pool, matrix).run(strategy);
+            System.out.print(report.format());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Analyzes the word list, writes the report and prints its summary.
+     */
+    private static void analyze(WordStore words, Options options) {
+        ForkJoinPool pool = new ForkJoinPool(options.threads());
+        try {
+            DictionaryReport report = new DictionaryAnalyzer(words, pool).analyze();
+            report.write(Paths.get(options.analyzePath()));
+            System.out.print(report.format(ANALYZE_TOP));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Compiles the decision tree for the word list, saves it and prints how many
+     * guesses it needs per answer.
+     */
+    private static void compileTree(WordStore words, Options options) {
+        ForkJoinPool pool = new ForkJoinPool(options.threads());
+        try {
+            long start = System.nanoTime();
+            DecisionTree tree = DecisionTree.compile(new EntropySolver(words, pool, loadMatrix(words, options)));
+            tree.save(Paths.get(options.compileTreePath()));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            int maxDepth = 0;
+            long totalDepth = 0;
+            for (int answer = 0; answer < words.size(); answer++) {
+                int depth = tree.depth(answer);
+                maxDepth = Math.max(maxDepth, depth);
+                totalDepth += depth;
+            }
+            System.out.printf("Compiled decision tree for %d words in %d ms: %d ints, average %.3f guesses, max %d%n",
+                    words.size(), elapsedMillis, tree.sizeInInts(), (double) totalDepth / words.size(), maxDepth);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Loads the decision tree for hints, compiling it if the file is missing or stale.
+     */
+    private static DecisionTree loadTree(Path file, WordStore words, Options options) {
+        ForkJoinPool pool = new ForkJoinPool(options.threads());
+        try {
+            return DecisionTree.loadOrCompile(file, new EntropySolver(words, pool, loadMatrix(words, options)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Loads the feedback matrix, computing and saving it if the file is missing or stale.
+     *
+     * @return the matrix, or null without {@code --matrix}
+     */
+    private static FeedbackMatrix loadMatrix(WordStore words, Options options) {
+        return options.matrixPath() == null ? null : FeedbackMatrix.loadOrCompute(Paths.get(options.matrixPath()), words, words);
+    }
+
+    /**
+     * Hosts concurrent game sessions over TCP until the process is stopped.
+     */
+    private static void serve(WordStore words, Options options) throws Exception {
+        GameJournal journal = options.journalPath() == null ? null : openJournal(Paths.get(options.journalPath()), words);
+        GameStatistics statistics = options.statistics() ? newStatistics(words, options.maxAttempts()) : null;
+        try (GameServer server = GameServer.builder(new ConstraintIndex(words))
+                .maxAttempts(options.maxAttempts())
+                .hardMode(options.hardMode())
+                .port(options.port())
+                .journal(journal)
+                .statistics(statistics)
+                .answers(answerPicker(options))
+                .bind()) {
+            server.start();
+            System.out.println("Wordle server listening on port " + server.port());
+            server.join();
+        } finally {
+            if (journal != null) {
+                journal.close();
+            }
+        }
+    }
+
+    /**
+     * Command line options.
+     */
+    private record Options(String wordListPath, int wordLength, int boards, int maxAttempts, boolean hardMode,
+                           boolean adversarial, boolean simulate, int threads, String strategy, boolean server, int port, int metricsIntervalSeconds,
+                           String treePath, String compileTreePath, String matrixPath, boolean startupProbe,
+                           String bookPath, boolean hints, String journalPath, boolean resume, String replayPath, boolean statistics,
+                           String analyzePath, Long seed, LocalDate daily) {
+        static Options parse(String[] args) {
+            String wordListPath = DEFAULT_WORD_LIST;
+            int wordLength = FeedbackCalculator.WORD_LENGTH;
+            int boards = 1;
+            int maxAttempts = 0;
+            boolean hardMode = false;
+            boolean adversarial = false;
+            boolean simulate = false;
+            int threads = Runtime.getRuntime().availableProcessors();
+            String strategy = "entropy";
+            boolean server = false;
+            int port = DEFAULT_PORT;
+            int metricsIntervalSeconds = 0;
+            String treePath = null;
+            String compileTreePath = null;
+            String matrixPath = null;
+            boolean startupProbe = false;
+            String bookPath = null;
+            boolean hints = false;
+            String journalPath = null;
+            boolean resume = false;
+            String replayPath = null;
+            boolean statistics = false;
+            String analyzePath = null;
+            Long seed = null;
+            LocalDate daily = null;
+            for (String arg : args) {
+                if (arg.startsWith("--length=")) {
+                    wordLength = Integer.parseInt(arg.substring("--length=".length()));
+                } else if (arg.startsWith("--boards=")) {
+                    boards = Integer.parseInt(arg.substring("--boards=".length()));
+                } else if (arg.startsWith("--attempts=")) {
+                    maxAttempts = Integer.parseInt(arg.substring("--attempts=".length()));
+                } else if (arg.equals("--hard")) {
+                    hardMode = true;
+                } else if (arg.equals("--adversarial")) {
+                    adversarial = true;
+                } else if (arg.equals("--simulate")) {
+                    simulate = true;
+                } else if (arg.equals("--server")) {
+                    server = true;
+                } else if (arg.startsWith("--port=")) {
+                    port = Integer.parseInt(arg.substring("--port=".length()));
+                } else if (arg.startsWith("--metrics=")) {
+                    metricsIntervalSeconds = Integer.parseInt(arg.substring("--metrics=".length()));
+                } else if (arg.startsWith("--threads=")) {
+                    threads = Integer.parseInt(arg.substring("--threads=".length()));
+                } else if (arg.startsWith("--strategy=")) {
+                    strategy = arg.substring("--strategy=".length());
+                } else if (arg.startsWith("--tree=")) {
+                    treePath = arg.substring("--tree=".length());
+                } else if (arg.startsWith("--compile-tree=")) {
+                    compileTreePath = arg.substring("--compile-tree=".length());
+                } else if (arg.startsWith("--matrix=")) {
+                    matrixPath = arg.substring("--matrix=".length());
+                } else if (arg.equals("--startup-probe")) {
+                    startupProbe = true;
+                } else if (arg.startsWith("--book=")) {
+                    bookPath = arg.substring("--book=".length());
+                } else if (arg.equals("--hints")) {
+                    hints = true;
+                } else if (arg.startsWith("--journal=")) {
+                    journalPath = arg.substring("--journal=".length());
+                } else if (arg.equals("--resume")) {
+                    resume = true;
+                } else if (arg.startsWith("--replay=")) {
+                    replayPath = arg.substring("--replay=".length());
+                } else if (arg.equals("--stats")) {
+                    statistics = true;
+                } else if (arg.startsWith("--analyze=")) {
+                    analyzePath = arg.substring("--analyze=".length());
+                } else if (arg.startsWith("--seed=")) {
+                    seed = Long.parseLong(arg.substring("--seed=".length()));
+                } else if (arg.equals("--daily")) {
+                    daily = LocalDate.now();
+                } else if (arg.startsWith("--daily=")) {
+                    daily = LocalDate.parse(arg.substring("--daily=".length()));
+                } else if (arg.startsWith("--")) {
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+                } else {
+                    wordListPath = arg;
+                }
+            }
+            if (journalPath != null && boards > 1) {
+                throw new IllegalArgumentException("The journal records single-board games only.");
+            }
+            if (resume && journalPath == null) {
+                throw new IllegalArgumentException("--resume needs --journal=FILE.");
+            }
+            if (seed != null && daily != null) {
+                throw new IllegalArgumentException("--seed and --daily pick answers differently; use one.");
+            }
+            if (maxAttempts == 0) {
+                maxAttempts = WordleGame.defaultMaxAttempts(boards);
+            }
+            return new Options(wordListPath, wordLength, boards, maxAttempts, hardMode, adversarial, simulate, threads, strategy,
+                    server, port, metricsIntervalSeconds, treePath, compileTreePath, matrixPath, startupProbe,
+                    bookPath, hints, journalPath, resume, replayPath, statistics, analyzePath, seed, daily);
+        }
+    }
 } 
\ No newline at end of file
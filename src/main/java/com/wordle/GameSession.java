@@ -0,0 +1,242 @@
+package com.wordle;
+
+import com.wordle.exception.InvalidGuessException;
+import com.wordle.journal.GameJournal;
+import com.wordle.journal.JournalReplay;
+import com.wordle.metrics.Metrics;
+import com.wordle.utils.CandidateSet;
+import com.wordle.utils.ConstraintIndex;
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.WordValidator;
+
+/**
+ * State of a single game, free of any I/O. Sessions share the immutable word store
+ * and constraint index; each keeps only its answer, attempt counter and candidates.
+ * A session is played from one thread at a time; {@link #abandon()} may be called
+ * from any thread.
+ * <p>
+ * In hard mode every guess must be a word of the list and must reuse every hint
+ * revealed so far, see {@link #rejectReason(String)}.
+ * <p>
+ * With a {@link GameJournal} the session records its start, every guess and its end,
+ * so the game can be counted later or resumed after a crash, see {@link #resume}.
+ */
+public class GameSession extends AbstractSession {
+    /**
+     * Progress of a game.
+     */
+    public enum Status {
+        IN_PROGRESS,
+        SOLVED,
+        FAILED,
+        INTERRUPTED
+    }
+
+    private final int answer;
+    private final CandidateSet candidates;
+    private final byte[] letters;
+    private final long sessionId;
+    private GameJournal journal;
+
+    /**
+     * Starts a game.
+     *
+     * @param index the shared constraint index over the word list
+     * @param answer index of the answer in the word list
+     * @param maxAttempts the number of guesses allowed
+     */
+    public GameSession(ConstraintIndex index, int answer, int maxAttempts) {
+        this(index, answer, maxAttempts, false);
+    }
+
+    /**
+     * Starts a game, optionally in hard mode.
+     *
+     * @param index the shared constraint index over the word list
+     * @param answer index of the answer in the word list
+     * @param maxAttempts the number of guesses allowed
+     * @param hardMode whether guesses must be listed words that reuse every revealed hint
+     */
+    public GameSession(ConstraintIndex index, int answer, int maxAttempts, boolean hardMode) {
+        this(index, answer, maxAttempts, hardMode, null);
+    }
+
+    /**
+     * Starts a game, recording it in a journal.
+     *
+     * @param index the shared constraint index over the word list
+     * @param answer index of the answer in the word list
+     * @param maxAttempts the number of guesses allowed
+     * @param hardMode whether guesses must be listed words that reuse every revealed hint
+     * @param journal the journal to record the game in, or null
+     */
+    public GameSession(ConstraintIndex index, int answer, int maxAttempts, boolean hardMode, GameJournal journal) {
+        this(index, answer, maxAttempts, hardMode, journal, GameJournal.Origin.INTERACTIVE);
+    }
+
+    /**
+     * Starts a game, recording it in a journal along with where it is played.
+     *
+     * @param index the shared constraint index over the word list
+     * @param answer index of the answer in the word list
+     * @param maxAttempts the number of guesses allowed
+     * @param hardMode whether guesses must be listed words that reuse every revealed hint
+     * @param journal the journal to record the game in, or null
+     * @param origin where the game is played
+     */
+    public GameSession(ConstraintIndex index, int answer, int maxAttempts, boolean hardMode, GameJournal journal,
+                       GameJournal.Origin origin) {
+        this(index, answer, maxAttempts, hardMode,
+                journal == null ? 0 : journal.startSession(answer, maxAttempts, hardMode, origin), false);
+        this.journal = journal;
+    }
+
+    private GameSession(ConstraintIndex index, int answer, int maxAttempts, boolean hardMode, long sessionId,
+                        boolean resumed) {
+        super(index.words(), maxAttempts, hardMode, resumed);
+        this.sessionId = sessionId;
+        this.answer = answer;
+        this.candidates = index.newCandidateSet();
+        this.letters = new byte[index.length()];
+    }
+
+    /**
+     * Picks up a game from a journal: replays its guesses to rebuild the candidates
+     * and hard mode hints, then keeps journaling under the same session id.
+     *
+     * @param index the shared constraint index over the word list the journal was written with
+     * @param open the unfinished game
+     * @param journal the journal to continue recording in
+     * @return the session, ready for the next guess
+     */
+    public static GameSession resume(ConstraintIndex index, JournalReplay.OpenSession open, GameJournal journal) {
+        GameSession session = new GameSession(index, open.answer(), open.maxAttempts(), open.hardMode(), open.sessionId(),
+                true);
+        for (long guess : open.guesses()) {
+            session.guess(guess);
+        }
+        if (session.isOver()) {
+            throw new IllegalStateException("Session " + open.sessionId() + " already ended.");
+        }
+        session.journal = journal;
+        journal.resumeSession(open.sessionId(), open.answer());
+        return session;
+    }
+
+    /**
+     * Normalizes raw player input to an uppercase 5-letter guess.
+     *
+     * @param input the raw input line
+     * @return the uppercase guess, or null if it is not a 5-letter word
+     */
+    public static String normalizeGuess(String input) {
+        return normalizeGuess(input, FeedbackCalculator.WORD_LENGTH);
+    }
+
+    /**
+     * Normalizes raw player input to an uppercase guess of the given length.
+     *
+     * @param input the raw input line
+     * @param length the word length of the game
+     * @return the uppercase guess, or null if it is not a word of that length
+     */
+    public static String normalizeGuess(String input, int length) {
+        long packed = parseGuess(input, length);
+        return packed == WordValidator.INVALID ? null : FeedbackCalculator.unpack(packed, length);
+    }
+
+    /**
+     * Validates raw player input and packs it in the same pass, ready for
+     * {@link #guess(long)}.
+     *
+     * @param input the raw input line
+     * @param length the word length of the game
+     * @return the packed guess, or {@link WordValidator#INVALID} if it is not a word of that length
+     */
+    public static long parseGuess(String input, int length) {
+        if (input == null) {
+            return WordValidator.INVALID;
+        }
+        long start = Metrics.start();
+        long result = WordValidator.of(length).parse(input);
+        Metrics.guessValidation().recordSince(start);
+        return result;
+    }
+
+    /**
+     * Scores a guess and advances the game.
+     *
+     * @param guess a normalized guess, see {@link #normalizeGuess(String, int)}
+     * @return the packed feedback code
+     * @throws IllegalStateException if the game is already over
+     * @throws InvalidGuessException if the guess is not allowed in hard mode
+     */
+    public int guess(String guess) {
+        return guess(FeedbackCalculator.pack(guess, words.length()));
+    }
+
+    /**
+     * Scores a packed guess and advances the game.
+     *
+     * @param packedGuess a packed guess, see {@link #parseGuess(String, int)}
+     * @return the packed feedback code
+     * @throws IllegalArgumentException if the value is not a packed word of the game's length
+     * @throws IllegalStateException if the game is already over
+     * @throws InvalidGuessException if the guess is not allowed in hard mode
+     */
+    public synchronized int guess(long packedGuess) {
+        checkPlayable(packedGuess);
+        long start = Metrics.start();
+        int code = FeedbackCalculator.computeFeedbackCode(words.packed(answer), packedGuess, letters.length);
+        Metrics.feedback().recordSince(start);
+        if (journal != null) {
+            journal.guess(sessionId, answer, packedGuess, code);
+        }
+        if (code != allGreen) {
+            FeedbackCalculator.unpackLetters(packedGuess, letters);
+            candidates.apply(letters, code);
+        }
+        advance(packedGuess, code);
+        if (journal != null && status != Status.IN_PROGRESS) {
+            journal.end(sessionId, answer, status);
+        }
+        return code;
+    }
+
+    @Override
+    void abandoned() {
+        if (journal != null) {
+            journal.end(sessionId, answer, status);
+        }
+    }
+
+    public long sessionId() {
+        return sessionId;
+    }
+
+    public int answerIndex() {
+        return answer;
+    }
+
+    public String answer() {
+        return words.get(answer);
+    }
+
+    /**
+     * Returns the number of words still consistent with every guess so far.
+     *
+     * @return the candidate count
+     */
+    public int remainingCandidates() {
+        return candidates.count();
+    }
+
+    /**
+     * Returns the words still consistent with every guess so far.
+     *
+     * @return a copy of the candidate set
+     */
+    public synchronized CandidateSet candidates() {
+        return candidates.copy();
+    }
+}
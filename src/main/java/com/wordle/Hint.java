@@ -4,7 +4,34 @@ package com.wordle;
  * Represents the feedback for a letter in a Wordle guess.
  */
 public enum Hint {
-    GREEN,
-    YELLOW,
-    ABSENT
-} 
\ No newline at end of file
+    GREEN(2),
+    YELLOW(1),
+    ABSENT(0);
+
+    private static final Hint[] BY_DIGIT = {ABSENT, YELLOW, GREEN};
+
+    private final int digit;
+
+    Hint(int digit) {
+        this.digit = digit;
+    }
+
+    /**
+     * Returns the base-3 digit used for this hint in packed feedback codes.
+     *
+     * @return 2 for GREEN, 1 for YELLOW, 0 for ABSENT
+     */
+    public int digit() {
+        return digit;
+    }
+
+    /**
+     * Returns the hint for a base-3 digit of a packed feedback code.
+     *
+     * @param digit the digit (0, 1 or 2)
+     * @return the matching hint
+     */
+    public static Hint fromDigit(int digit) {
+        return BY_DIGIT[digit];
+    }
+}
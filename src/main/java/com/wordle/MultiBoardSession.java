@@ -0,0 +1,156 @@
+package com.wordle;
+
+import com.wordle.metrics.Metrics;
+import com.wordle.utils.CandidateSet;
+import com.wordle.utils.ConstraintIndex;
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.WordStore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * State of a multi-board game (Quordle, Octordle, ...): one stream of guesses is
+ * played against several answers at once. Each guess is validated, encoded and
+ * packed once and then scored against every unsolved board in a single pass.
+ * Every board keeps its own candidates and solved state. Like {@link GameSession},
+ * a session is played from one thread at a time; {@link #abandon()} may be called
+ * from any thread.
+ */
+public class MultiBoardSession extends AbstractSession {
+    /**
+     * Feedback code reported for a board that was already solved before the guess.
+     */
+    public static final int SOLVED_BEFORE = -1;
+
+    private final int[] answers;
+    private final long[] packedAnswers;
+    private final CandidateSet[] candidates;
+    private final int[] solvedAt;
+    private int unsolved;
+
+    /**
+     * Starts a game.
+     *
+     * @param index the shared constraint index over the word list
+     * @param answers indices of the answers in the word list, one per board
+     * @param maxAttempts the number of guesses allowed for all boards together
+     * @throws IllegalArgumentException if there are no boards or the attempt count is not positive
+     */
+    public MultiBoardSession(ConstraintIndex index, int[] answers, int maxAttempts) {
+        super(checkedWords(index, answers, maxAttempts), maxAttempts, false);
+        this.answers = answers.clone();
+        this.packedAnswers = new long[answers.length];
+        this.candidates = new CandidateSet[answers.length];
+        for (int b = 0; b < answers.length; b++) {
+            packedAnswers[b] = words.packed(answers[b]);
+            candidates[b] = index.newCandidateSet();
+        }
+        this.solvedAt = new int[answers.length];
+        this.unsolved = answers.length;
+    }
+
+    private static WordStore checkedWords(ConstraintIndex index, int[] answers, int maxAttempts) {
+        if (answers.length == 0) {
+            throw new IllegalArgumentException("A game needs at least one board.");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Attempt count must be positive: " + maxAttempts);
+        }
+        return index.words();
+    }
+
+    /**
+     * Scores a guess against every unsolved board and advances the game.
+     *
+     * @param guess a normalized guess, see {@link GameSession#normalizeGuess(String, int)}
+     * @return the packed feedback code per board, {@link #SOLVED_BEFORE} for boards solved by an earlier guess
+     * @throws IllegalStateException if the game is already over
+     */
+    public int[] guess(String guess) {
+        return guess(FeedbackCalculator.pack(guess, words.length()));
+    }
+
+    /**
+     * Scores a packed guess against every unsolved board and advances the game.
+     *
+     * @param packedGuess a packed guess, see {@link GameSession#parseGuess(String, int)}
+     * @return the packed feedback code per board, {@link #SOLVED_BEFORE} for boards solved by an earlier guess
+     * @throws IllegalArgumentException if the value is not a packed word of the game's length
+     * @throws IllegalStateException if the game is already over
+     */
+    public synchronized int[] guess(long packedGuess) {
+        checkPlayable(packedGuess);
+        int length = words.length();
+        byte[] letters = new byte[length];
+        FeedbackCalculator.unpackLetters(packedGuess, letters);
+        int attempt = attempts + 1;
+        int[] codes = new int[answers.length];
+        for (int b = 0; b < answers.length; b++) {
+            if (solvedAt[b] != 0) {
+                codes[b] = SOLVED_BEFORE;
+                continue;
+            }
+            long start = Metrics.start();
+            int code = FeedbackCalculator.computeFeedbackCode(packedAnswers[b], packedGuess, length);
+            Metrics.feedback().recordSince(start);
+            codes[b] = code;
+            if (code == allGreen) {
+                solvedAt[b] = attempt;
+                unsolved--;
+            } else {
+                candidates[b].apply(letters, code);
+            }
+        }
+        advance(unsolved == 0);
+        return codes;
+    }
+
+    public int boards() {
+        return answers.length;
+    }
+
+    public String answer(int board) {
+        return words.get(answers[board]);
+    }
+
+    public boolean isSolved(int board) {
+        return solvedAt[board] != 0;
+    }
+
+    /**
+     * Returns the attempt on which a board was solved.
+     *
+     * @param board the board
+     * @return the 1-based attempt, or 0 if the board is not solved
+     */
+    public int solvedAt(int board) {
+        return solvedAt[board];
+    }
+
+    /**
+     * Returns the number of words on a board still consistent with every guess so far.
+     *
+     * @param board the board
+     * @return the candidate count
+     */
+    public int remainingCandidates(int board) {
+        return candidates[board].count();
+    }
+
+    /**
+     * Returns copies of the candidate sets of the boards that are not solved yet,
+     * for example to ask {@link com.wordle.solver.EntropySolver#bestCombinedGuess(List)} for a hint.
+     *
+     * @return the candidate sets, in board order
+     */
+    public synchronized List<CandidateSet> unsolvedCandidates() {
+        List<CandidateSet> result = new ArrayList<>(unsolved);
+        for (int b = 0; b < answers.length; b++) {
+            if (solvedAt[b] == 0) {
+                result.add(candidates[b].copy());
+            }
+        }
+        return result;
+    }
+}
@@ -1,28 +1,59 @@
 package com.wordle;
 
 import com.wordle.exception.EmptyWordListException;
+import com.wordle.journal.GameJournal;
+import com.wordle.journal.JournalReplay;
+import com.wordle.metrics.GameStatistics;
+import com.wordle.render.Renderer;
+import com.wordle.render.TerminalRenderer;
+import com.wordle.solver.DecisionTree;
+import com.wordle.solver.EntropySolver;
+import com.wordle.solver.OpeningBook;
+import com.wordle.utils.AnswerPicker;
 import com.wordle.utils.BannerPrinter;
+import com.wordle.utils.CandidateSet;
+import com.wordle.utils.ConstraintIndex;
 import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.WordStore;
+import com.wordle.utils.WordValidator;
 
 import java.nio.file.Paths;
 import java.util.List;
-import java.util.Locale;
-import java.util.Random;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 /**
  * Main game class that handles the game loop and user interface.
  */
 public class WordleGame {
     private static final String WELCOME_BANNER_PATH = "welcomeBanner.txt";
-    private static final int MAX_ATTEMPTS = 5;
-    private static final String GREEN_BG = "\u001B[42m";
-    private static final String YELLOW_BG = "\u001B[43m";
-    private static final String RESET_STYLE_STRING = "\u001B[0m";
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
     
-    private final List<String> words;
+    private final CompletableFuture<ConstraintIndex> dictionary;
+    private final int wordLength;
+    private final int maxAttempts;
+    private final int boards;
+    private final boolean hardMode;
+    private final boolean adversarial;
+    private final Renderer renderer;
     private final Scanner scanner;
-    private final Random random;
+    private final AnswerPicker picker;
+    private final GameJournal journal;
+    private final JournalReplay.OpenSession resumeFrom;
+    private final CompletableFuture<DecisionTree> pendingHints;
+    private final CompletableFuture<OpeningBook> pendingBook;
+    private final CompletableFuture<EntropySolver> pendingSolver;
+    private final CompletableFuture<GameStatistics> pendingStatistics;
+    private volatile GameSession session;
+    private volatile MultiBoardSession multiSession;
+    private volatile AdversarialSession adversarialSession;
+    private boolean prepared;
+    private DecisionTree hints;
+    private OpeningBook book;
+    private EntropySolver solver;
+    private GameStatistics statistics;
     
     /**
      * Creates a new Wordle game with the given word list.
@@ -31,56 +62,273 @@ public class WordleGame {
      * @throws EmptyWordListException if the word list is empty
      */
     public WordleGame(List<String> words) {
+        this(builder(words));
+    }
+
+    private WordleGame(Builder builder) {
+        this.dictionary = builder.dictionary;
+        this.wordLength = builder.wordLength;
+        this.boards = builder.boards;
+        this.maxAttempts = builder.maxAttempts == 0 ? defaultMaxAttempts(boards) : builder.maxAttempts;
+        this.hardMode = builder.hardMode;
+        this.adversarial = builder.adversarial;
+        this.renderer = builder.renderer == null ? TerminalRenderer.stdout(wordLength) : builder.renderer;
+        this.scanner = new Scanner(System.in);
+        this.picker = builder.picker == null ? AnswerPicker.random() : builder.picker;
+        this.journal = builder.journal;
+        this.resumeFrom = builder.resumeFrom;
+        this.pendingHints = builder.tree;
+        this.pendingBook = builder.book;
+        this.pendingSolver = builder.solver;
+        this.pendingStatistics = builder.statistics;
+        if (hardMode && boards > 1) {
+            throw new IllegalArgumentException("Hard mode is only available with a single board.");
+        }
+        if ((pendingHints != null || pendingBook != null) && (boards > 1 || hardMode)) {
+            throw new IllegalArgumentException("Hints are only available for a single board outside hard mode.");
+        }
+        if (pendingSolver != null && boards == 1) {
+            throw new IllegalArgumentException("Combined hints are only available with several boards.");
+        }
+        if (adversarial && (boards > 1 || journal != null)) {
+            throw new IllegalArgumentException("Adversarial mode is only available for a single board without a journal.");
+        }
+        if (adversarial && pendingBook != null) {
+            throw new IllegalArgumentException("Adversarial games only take hints from a decision tree, not an opening book.");
+        }
+        if (resumeFrom != null) {
+            if (journal == null || boards > 1) {
+                throw new IllegalArgumentException("Only a journaled single-board game can be resumed.");
+            }
+            if (resumeFrom.maxAttempts() != maxAttempts || resumeFrom.hardMode() != hardMode) {
+                throw new IllegalArgumentException("Game " + resumeFrom.sessionId() + " was played with "
+                        + resumeFrom.maxAttempts() + " attempts" + (resumeFrom.hardMode() ? " in hard mode." : "."));
+            }
+        }
+    }
+
+    /**
+     * Starts setting up a game over a loaded word list. The word length is taken from
+     * the list, which must be a {@link WordStore} for lengths other than 5.
+     *
+     * @param words the list of possible answer words
+     * @return the builder
+     * @throws EmptyWordListException if the word list is empty
+     */
+    public static Builder builder(List<String> words) {
+        ConstraintIndex index = new ConstraintIndex(WordStore.of(requireWords(words)));
+        return new Builder(CompletableFuture.completedFuture(index), index.length());
+    }
+    
+    /**
+     * Starts setting up a game whose word list is still loading, so the banner and
+     * introduction can be shown meanwhile. The game waits for the list, and builds its
+     * index, only when it first needs them: at the first guess.
+     *
+     * @param words the possible answer words, once loaded
+     * @param wordLength the length of every word
+     * @return the builder
+     */
+    public static Builder loading(CompletableFuture<? extends List<String>> words, int wordLength) {
+        FeedbackCalculator.checkLength(wordLength);
+        return new Builder(words.thenApply(list -> new ConstraintIndex(WordStore.of(requireWords(list), wordLength))),
+                wordLength);
+    }
+
+    private static List<String> requireWords(List<String> words) {
         if (words == null || words.isEmpty()) {
             throw new EmptyWordListException("Cannot start game with empty word list");
         }
-        this.words = words;
-        this.scanner = new Scanner(System.in);
-        this.random = new Random();
+        return words;
     }
-    
+
+    /**
+     * Returns the usual attempt count for a number of boards: the single-board default,
+     * plus one extra guess per board when playing several (9 for 4 boards, 13 for 8).
+     *
+     * @param boards the number of boards
+     * @return the default attempt count
+     */
+    public static int defaultMaxAttempts(int boards) {
+        return boards == 1 ? DEFAULT_MAX_ATTEMPTS : boards + DEFAULT_MAX_ATTEMPTS;
+    }
+
+    /**
+     * Returns the game's word list, waiting for it if it is still loading.
+     *
+     * @return the words
+     */
+    public WordStore words() {
+        return dictionary().words();
+    }
+
+    /**
+     * Waits for the word list and its index. A failed load is rethrown as its cause.
+     */
+    private ConstraintIndex dictionary() {
+        return await(dictionary);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     /**
-     * Shows the game introduction.
+     * Returns whether the word list and everything built from it have arrived, so
+     * {@link #prepare()} would not block.
+     */
+    private boolean isLoaded() {
+        return dictionary.isDone()
+                && (pendingHints == null || pendingHints.isDone())
+                && (pendingBook == null || pendingBook.isDone())
+                && (pendingSolver == null || pendingSolver.isDone())
+                && (pendingStatistics == null || pendingStatistics.isDone());
+    }
+
+    /**
+     * Waits for the word list and everything built from it, and checks that they agree.
+     * Runs once, at the latest at the first guess.
+     *
+     * @throws IllegalArgumentException if a tree, book, solver or statistics are for
+     *         another word list, or the statistics allow fewer attempts
+     */
+    private void prepare() {
+        if (prepared) {
+            return;
+        }
+        WordStore words = words();
+        if (pendingHints != null) {
+            hints = await(pendingHints);
+            if (hints.words().length() != wordLength || hints.words().fingerprint() != words.fingerprint()) {
+                throw new IllegalArgumentException("Decision tree was compiled for a different word list.");
+            }
+        }
+        if (pendingBook != null) {
+            book = await(pendingBook);
+            if (book.words().length() != wordLength || book.words().fingerprint() != words.fingerprint()) {
+                throw new IllegalArgumentException("Opening book was built for a different word list.");
+            }
+        }
+        if (pendingSolver != null) {
+            solver = await(pendingSolver);
+            if (solver.words().length() != wordLength || solver.words().fingerprint() != words.fingerprint()) {
+                throw new IllegalArgumentException("Solver was built for a different word list.");
+            }
+        }
+        if (pendingStatistics != null) {
+            statistics = await(pendingStatistics);
+            if (statistics.words().fingerprint() != words.fingerprint() || statistics.maxAttempts() < maxAttempts) {
+                throw new IllegalArgumentException("Statistics were created for a different game setup.");
+            }
+        }
+        prepared = true;
+    }
+
+    /**
+     * Shows the game introduction as one frame.
      */
     public void showIntroduction() {
-        BannerPrinter.printBanner(Paths.get(WELCOME_BANNER_PATH));
-        System.out.println("Guess the 5-letter word in " + MAX_ATTEMPTS + " tries.");
-        System.out.println("After each guess, the color of the tiles will change to show how close your guess was to the word.");
-        System.out.println("Green: The letter is correct and in the right position.");
-        System.out.println("Yellow: The letter is in the word but in the wrong position.");
-        System.out.println("No color: The letter is not in the word.");
-        System.out.println("Let's Go!");
+        renderer.bytes(BannerPrinter.readBanner(Paths.get(WELCOME_BANNER_PATH)));
+        if (boards == 1) {
+            renderer.line("Guess the " + wordLength + "-letter word in " + maxAttempts + " tries.");
+        } else {
+            renderer.line("Guess all " + boards + " " + wordLength + "-letter words in " + maxAttempts
+                    + " tries. Every guess is played on every unsolved board.");
+        }
+        renderer.line("After each guess, the color of the tiles will change to show how close your guess was to the word.");
+        renderer.line("Green: The letter is correct and in the right position.");
+        renderer.line("Yellow: The letter is in the word but in the wrong position.");
+        renderer.line("No color: The letter is not in the word.");
+        if (hardMode) {
+            renderer.line("Hard mode: every guess must be a listed word that uses all revealed hints.");
+        }
+        if (adversarial) {
+            renderer.line("Adversarial mode: the word is only decided once no other word fits your hints.");
+        }
+        renderer.line("Let's Go!");
+        renderer.flush();
     }
     
     /**
-     * Runs the game.
+     * Runs the game. The introduction is shown and the first guess read before the
+     * game waits for a word list that is still loading, in every mode, along with the
+     * hint sources and statistics built from it.
      */
     public void play() {
+        if (boards > 1) {
+            playBoards();
+            return;
+        }
+        if (adversarial) {
+            playAdversarial();
+            return;
+        }
         try {
-            String answer = selectRandomWord();
             showIntroduction();
+            int hintNode = pendingHints != null ? DecisionTree.ROOT : DecisionTree.NO_NODE;
+            long bookState = OpeningBook.ROOT;
+            GameSession session = null;
+            long firstGuess = WordValidator.INVALID;
+            if (resumeFrom != null) {
+                prepare();
+                session = GameSession.resume(dictionary(), resumeFrom, journal);
+                this.session = session;
+                renderer.line("Resuming game " + session.sessionId() + ":");
+                long answer = words().packed(session.answerIndex());
+                for (long guess : resumeFrom.guesses()) {
+                    if (firstGuess == WordValidator.INVALID) {
+                        firstGuess = guess;
+                    }
+                    int code = FeedbackCalculator.computeFeedbackCode(answer, guess, wordLength);
+                    renderer.feedback(FeedbackCalculator.unpack(guess, wordLength), code);
+                    hintNode = nextHintNode(hintNode, guess, code);
+                    bookState = OpeningBook.next(bookState, guess, code);
+                }
+            }
             
-            boolean solved = false;
-            int attempt = 1;
-            
-            while (attempt <= MAX_ATTEMPTS && App.isRunning() && !solved) {
-                System.out.printf("Attempt %d/%d: ", attempt, MAX_ATTEMPTS);
-                String guess = getValidGuess();
+            while ((session == null || !session.isOver()) && App.isRunning()) {
+                String hint = prepareIfLoaded() ? hint(hintNode, bookState, session) : null;
+                if (hint != null) {
+                    renderer.line("Hint: try " + hint);
+                }
+                renderer.text("Attempt " + (session == null ? 1 : session.attempts() + 1) + "/" + maxAttempts + ": ");
+                long guess = getValidGuess();
+                if (session == null) {
+                    prepare();
+                    session = new GameSession(dictionary(), selectRandomWord(), maxAttempts, hardMode, journal);
+                    this.session = session;
+                }
+                guess = getAllowedGuess(session, guess);
                 
-                if (App.isRunning()) {
-                    List<Hint> feedback = FeedbackCalculator.computeFeedback(answer, guess);
-                    printColoredFeedback(guess, feedback);
+                if (App.isRunning() && !session.isOver()) {
+                    int code = session.guess(guess);
+                    if (firstGuess == WordValidator.INVALID) {
+                        firstGuess = guess;
+                    }
+                    renderer.feedback(FeedbackCalculator.unpack(guess, wordLength), code);
+                    hintNode = nextHintNode(hintNode, guess, code);
+                    bookState = OpeningBook.next(bookState, guess, code);
                     
-                    if (allGreen(feedback)) {
-                        System.out.println("Congratulations! You've found the word in " + attempt + " attempt(s)!");
-                        solved = true;
+                    if (session.status() == GameSession.Status.SOLVED) {
+                        renderer.line("Congratulations! You've found the word in " + session.attempts() + " attempt(s)!");
+                    } else {
+                        renderer.line(session.remainingCandidates() + " possible word(s) remaining.");
                     }
                 }
-                attempt++;
             }
             
-            if (!solved && App.isRunning()) {
-                System.out.println("Out of attempts! The word was: " + answer);
+            if (session != null && session.status() == GameSession.Status.FAILED && App.isRunning()) {
+                renderer.line("Out of attempts! The word was: " + session.answer());
+            }
+            if (session != null) {
+                recordStatistics(session.answerIndex(), firstGuess, session.attempts(), session.status());
             }
         } finally {
             cleanup();
@@ -88,71 +336,466 @@ public class WordleGame {
     }
 
     /**
-     * Cleans up resources used by the game.
+     * Prepares the game if that does not block.
+     *
+     * @return whether the game is prepared
+     */
+    private boolean prepareIfLoaded() {
+        if (!prepared && isLoaded()) {
+            prepare();
+        }
+        return prepared;
+    }
+
+    /**
+     * Picks the hint for the next attempt: the decision tree's while the player follows
+     * it, then the opening book's.
+     *
+     * @param node the current decision tree node
+     * @param state the current opening book state
+     * @param session the game, or null before the first guess
+     * @return the suggested word, or null if there is no hint
+     */
+    private String hint(int node, long state, GameSession session) {
+        if (node != DecisionTree.NO_NODE) {
+            return hints.words().get(hints.guess(node));
+        }
+        if (book == null) {
+            return null;
+        }
+        Supplier<CandidateSet> candidates = session == null ? dictionary()::newCandidateSet : session::candidates;
+        return book.words().get(book.suggest(state, candidates).guess());
+    }
+
+    /**
+     * Follows the decision tree after a guess.
+     *
+     * @param node the node the last hint came from
+     * @param guess the packed word played
+     * @param code the feedback it got
+     * @return the node of the next hint, or {@link DecisionTree#NO_NODE} if the player left the tree
+     */
+    private int nextHintNode(int node, long guess, int code) {
+        if (node == DecisionTree.NO_NODE || hints.words().packed(hints.guess(node)) != guess) {
+            return DecisionTree.NO_NODE;
+        }
+        return hints.child(node, code);
+    }
+
+    /**
+     * Asks the solver for the guess that tells the most about all unsolved boards together.
+     * Before the first guess every board still has the whole word list.
+     *
+     * @param session the game, or null before the first guess
+     * @return the suggested word
+     */
+    private String combinedHint(MultiBoardSession session) {
+        List<CandidateSet> boards = session == null ? List.of(dictionary().newCandidateSet()) : session.unsolvedCandidates();
+        return solver.words().get(solver.bestCombinedGuess(boards));
+    }
+
+    /**
+     * Runs an adversarial game.
+     */
+    private void playAdversarial() {
+        try {
+            showIntroduction();
+            int hintNode = pendingHints != null ? DecisionTree.ROOT : DecisionTree.NO_NODE;
+            AdversarialSession session = null;
+            long firstGuess = WordValidator.INVALID;
+
+            while ((session == null || !session.isOver()) && App.isRunning()) {
+                if (hintNode != DecisionTree.NO_NODE && prepareIfLoaded()) {
+                    renderer.line("Hint: try " + hints.words().get(hints.guess(hintNode)));
+                }
+                renderer.text("Attempt " + (session == null ? 1 : session.attempts() + 1) + "/" + maxAttempts + ": ");
+                long guess = getValidGuess();
+                if (session == null) {
+                    prepare();
+                    session = new AdversarialSession(words(), maxAttempts, hardMode);
+                    this.adversarialSession = session;
+                }
+                String reason;
+                while ((reason = session.rejectReason(guess)) != null) {
+                    renderer.text(reason + ". Try again: ");
+                    guess = getValidGuess();
+                }
+
+                if (App.isRunning() && !session.isOver()) {
+                    int code = session.guess(guess);
+                    if (firstGuess == WordValidator.INVALID) {
+                        firstGuess = guess;
+                    }
+                    renderer.feedback(FeedbackCalculator.unpack(guess, wordLength), code);
+                    hintNode = nextHintNode(hintNode, guess, code);
+
+                    if (session.status() == GameSession.Status.SOLVED) {
+                        renderer.line("Congratulations! You've cornered the word in " + session.attempts() + " attempt(s)!");
+                    } else {
+                        renderer.line(session.remainingCandidates() + " possible word(s) remaining.");
+                    }
+                }
+            }
+
+            if (session != null && session.status() == GameSession.Status.FAILED && App.isRunning()) {
+                renderer.line("Out of attempts! The word was: " + session.answer());
+            }
+            if (session != null) {
+                recordStatistics(words().indexOf(session.answer()), firstGuess, session.attempts(), session.status());
+            }
+        } finally {
+            cleanup();
+        }
+    }
+
+    /**
+     * Runs a multi-board game.
+     */
+    private void playBoards() {
+        try {
+            showIntroduction();
+            int[] answers = new int[boards];
+            MultiBoardSession session = null;
+            long firstGuess = WordValidator.INVALID;
+
+            while ((session == null || !session.isOver()) && App.isRunning()) {
+                if (pendingSolver != null && prepareIfLoaded()) {
+                    renderer.line("Hint: try " + combinedHint(session));
+                }
+                renderer.text("Attempt " + (session == null ? 1 : session.attempts() + 1) + "/" + maxAttempts + ": ");
+                long guess = getValidGuess();
+                if (session == null) {
+                    prepare();
+                    for (int b = 0; b < boards; b++) {
+                        answers[b] = selectRandomWord();
+                    }
+                    session = new MultiBoardSession(dictionary(), answers, maxAttempts);
+                    this.multiSession = session;
+                }
+
+                if (App.isRunning() && !session.isOver()) {
+                    int[] codes = session.guess(guess);
+                    if (firstGuess == WordValidator.INVALID) {
+                        firstGuess = guess;
+                    }
+                    String word = FeedbackCalculator.unpack(guess, wordLength);
+                    for (int b = 0; b < boards; b++) {
+                        if (codes[b] == MultiBoardSession.SOLVED_BEFORE) {
+                            continue;
+                        }
+                        renderer.text("Board " + (b + 1) + ": ");
+                        renderer.feedback(word, codes[b]);
+                        if (session.solvedAt(b) == session.attempts()) {
+                            renderer.line("  Solved!");
+                        }
+                    }
+                }
+            }
+
+            if (session == null) {
+                return;
+            }
+            if (session.status() == GameSession.Status.SOLVED) {
+                renderer.line("Congratulations! You've solved all " + boards + " boards in "
+                        + session.attempts() + " attempt(s)!");
+            } else if (session.status() == GameSession.Status.FAILED && App.isRunning()) {
+                for (int b = 0; b < boards; b++) {
+                    if (!session.isSolved(b)) {
+                        renderer.line("Board " + (b + 1) + " was: " + session.answer(b));
+                    }
+                }
+            }
+            if (session.status() == GameSession.Status.SOLVED || session.status() == GameSession.Status.FAILED) {
+                // each board counts as a game of its own, taking as many guesses as it needed
+                for (int b = 0; b < boards; b++) {
+                    boolean solved = session.isSolved(b);
+                    recordStatistics(answers[b], firstGuess, solved ? session.solvedAt(b) : session.attempts(),
+                            solved ? GameSession.Status.SOLVED : GameSession.Status.FAILED);
+                }
+            }
+        } finally {
+            cleanup();
+        }
+    }
+
+    /**
+     * Abandons the game in progress, if any. Called from the shutdown hook.
+     */
+    public void interrupt() {
+        GameSession current = session;
+        if (current != null) {
+            current.abandon();
+        }
+        MultiBoardSession currentMulti = multiSession;
+        if (currentMulti != null) {
+            currentMulti.abandon();
+        }
+        AdversarialSession currentAdversarial = adversarialSession;
+        if (currentAdversarial != null) {
+            currentAdversarial.abandon();
+        }
+    }
+
+    /**
+     * Cleans up resources used by the game. A game left unfinished, for example
+     * because input ended, is abandoned so its journal records the interruption.
      */
     private void cleanup() {
+        interrupt();
+        renderer.flush();
         if (scanner != null) {
             scanner.close();
         }
     }
     
     /**
-     * Gets a valid 5-letter guess from the user.
+     * Gets a valid guess of the game's word length from the user.
      * 
-     * @return a valid guess
+     * @return a valid guess, packed
      */
-    private String getValidGuess() {
-        String guess;
-        while (true) {
-            guess = scanner.nextLine().trim().toUpperCase(Locale.ENGLISH);
-            if (guess.length() == 5 && guess.matches("[A-Z]{5}")) {
-                break;
-            }
-            System.out.print("Please enter a valid 5-letter word: ");
+    private long getValidGuess() {
+        long guess;
+        renderer.flush();
+        while ((guess = GameSession.parseGuess(scanner.nextLine(), wordLength)) == WordValidator.INVALID) {
+            renderer.text("Please enter a valid " + wordLength + "-letter word: ");
+            renderer.flush();
         }
         return guess;
     }
     
     /**
-     * Prints the guess with colored feedback.
-     * 
-     * @param guess the player's guess
-     * @param feedback the feedback for each letter
-     */
-    private void printColoredFeedback(String guess, List<Hint> feedback) {
-        for (int i = 0; i < 5; i++) {
-            char letter = guess.charAt(i);
-            String colorCode = switch (feedback.get(i)) {
-                case GREEN -> GREEN_BG;
-                case YELLOW -> YELLOW_BG;
-                case ABSENT -> "";
-            };
-            
-            if (!colorCode.isEmpty()) {
-                System.out.print(colorCode + " " + letter + " " + RESET_STYLE_STRING);
-            } else {
-                System.out.print(" " + letter + " ");
-            }
+     * Asks again until the session allows the guess, which matters in hard mode.
+     *
+     * @param session the game in progress
+     * @param guess a valid packed guess already read
+     * @return an allowed packed guess
+     */
+    private long getAllowedGuess(GameSession session, long guess) {
+        String reason;
+        while ((reason = session.rejectReason(guess)) != null) {
+            renderer.text(reason + ". Try again: ");
+            guess = getValidGuess();
         }
-        System.out.println();
+        return guess;
     }
-    
+
     /**
-     * Checks if all feedback hints are GREEN.
-     * 
-     * @param feedback the feedback list
-     * @return true if all hints are GREEN
+     * Records a game in the statistics, if any, once it was solved or failed.
+     *
+     * @param answer the word id of the answer
+     * @param firstGuess the first word played, packed
+     * @param attempts the guesses played
+     * @param status how the game ended
      */
-    private boolean allGreen(List<Hint> feedback) {
-        return feedback.stream().allMatch(hint -> hint == Hint.GREEN);
+    private void recordStatistics(int answer, long firstGuess, int attempts, GameSession.Status status) {
+        if (statistics != null && (status == GameSession.Status.SOLVED || status == GameSession.Status.FAILED)) {
+            statistics.record(answer, words().indexOf(firstGuess), attempts, status == GameSession.Status.SOLVED);
+        }
     }
-    
+
     /**
-     * Selects a random word from the word list.
+     * Selects the next answer from the word list.
      * 
-     * @return the selected word
+     * @return the index of the selected word
+     */
+    private int selectRandomWord() {
+        return picker.next(words().size());
+    }
+
+    /**
+     * Options of a {@link WordleGame}, set one at a time and checked together by
+     * {@link #build()}. Every option has a default: a normal single-board game with
+     * {@link WordleGame#defaultMaxAttempts(int) the usual attempts}, random answers, no hints,
+     * no journal and no statistics, drawn on standard output.
      */
-    private String selectRandomWord() {
-        return words.get(random.nextInt(words.size()));
+    public static final class Builder {
+        private final CompletableFuture<ConstraintIndex> dictionary;
+        private final int wordLength;
+        private int maxAttempts;
+        private int boards = 1;
+        private boolean hardMode;
+        private boolean adversarial;
+        private Renderer renderer;
+        private AnswerPicker picker;
+        private GameJournal journal;
+        private JournalReplay.OpenSession resumeFrom;
+        private CompletableFuture<DecisionTree> tree;
+        private CompletableFuture<OpeningBook> book;
+        private CompletableFuture<EntropySolver> solver;
+        private CompletableFuture<GameStatistics> statistics;
+
+        private Builder(CompletableFuture<ConstraintIndex> dictionary, int wordLength) {
+            this.dictionary = dictionary;
+            this.wordLength = wordLength;
+        }
+
+        /**
+         * Sets how many guesses the game allows, for all boards together.
+         *
+         * @param maxAttempts the number of guesses allowed
+         * @return this builder
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("Attempt count must be positive: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Plays on several boards at once, each with its own answer.
+         *
+         * @param boards the number of boards
+         * @return this builder
+         */
+        public Builder boards(int boards) {
+            if (boards < 1) {
+                throw new IllegalArgumentException("Board count must be positive: " + boards);
+            }
+            this.boards = boards;
+            return this;
+        }
+
+        /**
+         * Plays in hard mode, or not. Hard mode is only available on a single board.
+         *
+         * @param hardMode whether guesses must be listed words that reuse every revealed hint
+         * @return this builder
+         */
+        public Builder hardMode(boolean hardMode) {
+            this.hardMode = hardMode;
+            return this;
+        }
+
+        /**
+         * Plays adversarially, or not: no answer is picked up front, and every guess gets
+         * the feedback that keeps the most words possible, see {@link AdversarialSession}.
+         * Only available for a single board without a journal or an opening book.
+         *
+         * @param adversarial whether to play adversarially
+         * @return this builder
+         */
+        public Builder adversarial(boolean adversarial) {
+            this.adversarial = adversarial;
+            return this;
+        }
+
+        /**
+         * Sends the game's output somewhere other than standard output.
+         *
+         * @param renderer where the game's output goes
+         * @return this builder
+         */
+        public Builder renderer(Renderer renderer) {
+            this.renderer = renderer;
+            return this;
+        }
+
+        /**
+         * Picks answers with the given picker instead of a randomly seeded one, for
+         * example to replay the same games from a seed or to play the word of the day.
+         *
+         * @param picker a picker owned by the game
+         * @return this builder
+         */
+        public Builder answers(AnswerPicker picker) {
+            this.picker = picker;
+            return this;
+        }
+
+        /**
+         * Records the game in a journal. Only single-board games are journaled.
+         *
+         * @param journal a journal opened for the game's word list, or null
+         * @return this builder
+         */
+        public Builder journal(GameJournal journal) {
+            this.journal = journal;
+            return this;
+        }
+
+        /**
+         * Continues an unfinished game from the journal instead of starting a new one.
+         * The game must be set up like the one being resumed.
+         *
+         * @param open the unfinished game, from {@link JournalReplay#read}, or null
+         * @return this builder
+         */
+        public Builder resume(JournalReplay.OpenSession open) {
+            this.resumeFrom = open;
+            return this;
+        }
+
+        /**
+         * Records every finished game, with its first guess, in shared statistics. Like
+         * the word list, the statistics may still be loading; they are waited for and
+         * checked at the first guess.
+         *
+         * @param statistics statistics over the game's word list, once created
+         * @return this builder
+         */
+        public Builder statistics(CompletableFuture<GameStatistics> statistics) {
+            this.statistics = statistics;
+            return this;
+        }
+
+        /**
+         * Suggests the next guess before every attempt by walking a precompiled decision
+         * tree. Suggestions stop once the player plays a different word, unless an
+         * opening book is set too. Only available for a single board outside hard mode.
+         *
+         * The tree may still be loading, like the word list: the game waits for it, and
+         * checks it against the word list, at the first guess. The first attempt only
+         * gets a hint if both have arrived by the time it is prompted for.
+         *
+         * @param tree a tree compiled for the game's word list, once loaded
+         * @return this builder
+         */
+        public Builder treeHints(CompletableFuture<DecisionTree> tree) {
+            this.tree = tree;
+            return this;
+        }
+
+        /**
+         * Suggests the next guess before every attempt from the solver, through an
+         * opening book that remembers the positions already solved. With a decision
+         * tree set as well, the book takes over once the player leaves the tree.
+         * Only available for a single board outside hard and adversarial mode. The
+         * book may still be loading; it is waited for and checked like a decision tree.
+         *
+         * @param book a book over the game's word list, once loaded
+         * @return this builder
+         */
+        public Builder bookHints(CompletableFuture<OpeningBook> book) {
+            this.book = book;
+            return this;
+        }
+
+        /**
+         * Suggests the next guess before every attempt of a multi-board game: the word
+         * that tells the most about all unsolved boards together, see
+         * {@link EntropySolver#bestCombinedGuess(List)}. Only available with several
+         * boards. The solver may still be loading; it is waited for and checked like a
+         * decision tree.
+         *
+         * @param solver a solver over the game's word list, once built
+         * @return this builder
+         */
+        public Builder combinedHints(CompletableFuture<EntropySolver> solver) {
+            this.solver = solver;
+            return this;
+        }
+
+        /**
+         * Creates the game.
+         *
+         * @return the game
+         * @throws IllegalArgumentException if the options do not go together, for example
+         *         hints or hard mode with several boards, or a resumed game set up differently
+         */
+        public WordleGame build() {
+            return new WordleGame(this);
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,206 @@
+package com.wordle.analysis;
+
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.WordStore;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+import static com.wordle.utils.FeedbackCalculator.BITS_PER_LETTER;
+import static com.wordle.utils.FeedbackCalculator.LETTER_MASK;
+
+/**
+ * Computes the statistics used to curate a word list, in two parallel passes. The
+ * letter pass streams the packed words once, each thread counting into its own
+ * primitive arrays that are summed at the end. The opening pass plays every word as
+ * the first guess against every word as the answer and records how many candidates
+ * each feedback leaves; each fork/join leaf reuses one bucket array and writes only
+ * its own guesses' results.
+ */
+public class DictionaryAnalyzer {
+    private static final int LEAF_SIZE = 32;
+
+    private final WordStore words;
+    private final ForkJoinPool pool;
+    private final long[] packedWords;
+    private final int[] letterMasks;
+    private final int wordLength;
+    private final int patternCount;
+
+    /**
+     * Creates an analyzer.
+     *
+     * @param words the word list, both the guesses and the answers
+     * @param pool the pool both passes run on
+     */
+    public DictionaryAnalyzer(WordStore words, ForkJoinPool pool) {
+        this.words = words;
+        this.pool = pool;
+        this.wordLength = words.length();
+        this.patternCount = FeedbackCalculator.patternCount(wordLength);
+        this.packedWords = new long[words.size()];
+        this.letterMasks = new int[words.size()];
+        byte[] letters = new byte[wordLength];
+        for (int i = 0; i < packedWords.length; i++) {
+            packedWords[i] = words.packed(i);
+            FeedbackCalculator.unpackLetters(packedWords[i], letters);
+            for (byte letter : letters) {
+                letterMasks[i] |= 1 << letter;
+            }
+        }
+    }
+
+    /**
+     * Runs both passes.
+     *
+     * @return the report
+     */
+    public DictionaryReport analyze() {
+        long start = System.nanoTime();
+        LetterCounts letters;
+        try {
+            letters = pool.submit(() -> IntStream.range(0, packedWords.length)
+                    .parallel()
+                    .collect(() -> new LetterCounts(wordLength), this::count, LetterCounts::merge)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Analysis interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Analysis failed", e.getCause());
+        }
+        int[] worst = new int[packedWords.length];
+        long[] sumOfSquares = new long[packedWords.length];
+        pool.invoke(new OpeningTask(0, packedWords.length, worst, sumOfSquares));
+        double[] average = new double[packedWords.length];
+        for (int g = 0; g < average.length; g++) {
+            average[g] = (double) sumOfSquares[g] / packedWords.length;
+        }
+        return new DictionaryReport(words, letters.occurrences, letters.wordsWithLetter, letters.byPosition,
+                letters.duplicateWords, worst, average, System.nanoTime() - start);
+    }
+
+    private void count(LetterCounts counts, int word) {
+        byte[] letters = counts.letters;
+        FeedbackCalculator.unpackLetters(packedWords[word], letters);
+        int seen = 0;
+        boolean duplicate = false;
+        for (int i = 0; i < wordLength; i++) {
+            int letter = letters[i];
+            counts.occurrences[letter]++;
+            counts.byPosition[i * FeedbackCalculator.ALPHABET_SIZE + letter]++;
+            if ((seen & (1 << letter)) != 0) {
+                duplicate = true;
+            }
+            seen |= 1 << letter;
+        }
+        if (duplicate) {
+            counts.duplicateWords++;
+        }
+        for (int s = seen; s != 0; s &= s - 1) {
+            counts.wordsWithLetter[Integer.numberOfTrailingZeros(s)]++;
+        }
+    }
+
+    /**
+     * One thread's share of the letter pass.
+     */
+    private static final class LetterCounts {
+        final long[] occurrences = new long[FeedbackCalculator.ALPHABET_SIZE];
+        final long[] wordsWithLetter = new long[FeedbackCalculator.ALPHABET_SIZE];
+        final long[] byPosition;
+        final byte[] letters;
+        long duplicateWords;
+
+        LetterCounts(int length) {
+            this.byPosition = new long[length * FeedbackCalculator.ALPHABET_SIZE];
+            this.letters = new byte[length];
+        }
+
+        void merge(LetterCounts other) {
+            for (int i = 0; i < occurrences.length; i++) {
+                occurrences[i] += other.occurrences[i];
+                wordsWithLetter[i] += other.wordsWithLetter[i];
+            }
+            for (int i = 0; i < byPosition.length; i++) {
+                byPosition[i] += other.byPosition[i];
+            }
+            duplicateWords += other.duplicateWords;
+        }
+    }
+
+    /**
+     * Scores a range of opening guesses: for each, the largest feedback bucket and the
+     * sum of squared bucket sizes, from which the expected candidates left follow.
+     */
+    private final class OpeningTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int[] worst;
+        private final long[] sumOfSquares;
+
+        OpeningTask(int from, int to, int[] worst, long[] sumOfSquares) {
+            this.from = from;
+            this.to = to;
+            this.worst = worst;
+            this.sumOfSquares = sumOfSquares;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                scoreRange();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new OpeningTask(from, mid, worst, sumOfSquares), new OpeningTask(mid, to, worst, sumOfSquares));
+        }
+
+        private void scoreRange() {
+            int[] buckets = new int[patternCount];
+            byte[] letters = new byte[wordLength];
+            for (int g = from; g < to; g++) {
+                long guess = packedWords[g];
+                if (Integer.bitCount(letterMasks[g]) == wordLength) {
+                    FeedbackCalculator.unpackLetters(guess, letters);
+                    fillDistinct(guess, letters, buckets);
+                } else {
+                    for (long answer : packedWords) {
+                        buckets[FeedbackCalculator.computeFeedbackCode(answer, guess, wordLength)]++;
+                    }
+                }
+                int max = 0;
+                long squares = 0;
+                for (int b = 0; b < patternCount; b++) {
+                    int c = buckets[b];
+                    max = Math.max(max, c);
+                    squares += (long) c * c;
+                    buckets[b] = 0;
+                }
+                worst[g] = max;
+                sumOfSquares[g] = squares;
+            }
+        }
+
+        /**
+         * Buckets the answers for a guess without repeated letters. Each of its letters
+         * can then only be GREEN in place, YELLOW if the answer has it anywhere else, or
+         * absent, so the code follows from one XOR and the answer's letter mask.
+         */
+        private void fillDistinct(long guess, byte[] letters, int[] buckets) {
+            for (int a = 0; a < packedWords.length; a++) {
+                long diff = packedWords[a] ^ guess;
+                int mask = letterMasks[a];
+                int code = 0;
+                for (int i = wordLength - 1; i >= 0; i--) {
+                    int hint = ((diff >>> (i * BITS_PER_LETTER)) & LETTER_MASK) == 0 ? 2 : (mask >>> letters[i]) & 1;
+                    code = code * 3 + hint;
+                }
+                buckets[code]++;
+            }
+        }
+    }
+}
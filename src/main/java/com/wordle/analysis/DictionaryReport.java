@@ -0,0 +1,182 @@
+package com.wordle.analysis;
+
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.WordStore;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+/**
+ * Letter and opening-guess statistics of a word list, see {@link DictionaryAnalyzer}.
+ *
+ * @param words the word list
+ * @param occurrences how often each letter occurs, counting repeats
+ * @param wordsWithLetter how many words contain each letter
+ * @param byPosition how often each letter occurs at each position, indexed
+ *                   {@code position * 26 + letter}
+ * @param duplicateWords how many words repeat a letter
+ * @param worst per word, the most candidates left after opening with it
+ * @param average per word, the expected candidates left after opening with it, every
+ *                answer being equally likely
+ * @param elapsedNanos wall-clock time of the analysis
+ */
+public record DictionaryReport(WordStore words, long[] occurrences, long[] wordsWithLetter, long[] byPosition,
+                               long duplicateWords, int[] worst, double[] average, long elapsedNanos) {
+
+    public double duplicateRate() {
+        return words.isEmpty() ? 0 : (double) duplicateWords / words.size();
+    }
+
+    public long positionCount(int position, int letter) {
+        return byPosition[position * FeedbackCalculator.ALPHABET_SIZE + letter];
+    }
+
+    /**
+     * Returns the opening guesses that leave the fewest candidates on average.
+     *
+     * @param limit the most words to return
+     * @return word ids, best first, ties broken by the smaller worst case then word id
+     */
+    public int[] bestOpeners(int limit) {
+        return IntStream.range(0, average.length)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingDouble(w -> average[w])
+                        .thenComparingInt(w -> worst[w])
+                        .thenComparingInt(w -> w))
+                .limit(limit)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Formats a summary for the console.
+     *
+     * @param limit the most openers listed
+     * @return a multi-line summary
+     */
+    public String format(int limit) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "Words: %d, with a repeated letter: %d (%.2f%%), analyzed in %.1f ms%n",
+                words.size(), duplicateWords, duplicateRate() * 100, elapsedNanos / 1e6));
+        sb.append("Letters by frequency:");
+        IntStream.range(0, FeedbackCalculator.ALPHABET_SIZE)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingLong(l -> -occurrences[l]).thenComparingInt(l -> l))
+                .forEach(l -> sb.append(' ').append((char) ('A' + l)).append('=').append(occurrences[l]));
+        sb.append(String.format("%nBest openers:"));
+        for (int w : bestOpeners(limit)) {
+            sb.append(String.format(Locale.ROOT, " %s (avg %.2f, worst %d)", words.get(w), average[w], worst[w]));
+        }
+        return sb.append(String.format("%n")).toString();
+    }
+
+    /**
+     * Writes the report as JSON if the file name ends in {@code .json}, as CSV otherwise.
+     * The CSV form is two files: one row per word in {@code file}, and one row per letter
+     * next to it, named with a {@code -letters} suffix.
+     *
+     * @param file the report file
+     */
+    public void write(Path file) {
+        String name = file.getFileName().toString();
+        if (name.toLowerCase(Locale.ROOT).endsWith(".json")) {
+            writeJson(file);
+        } else {
+            int dot = name.lastIndexOf('.');
+            String letters = dot > 0 ? name.substring(0, dot) + "-letters" + name.substring(dot) : name + "-letters";
+            writeWordsCsv(file);
+            writeLettersCsv(file.resolveSibling(letters));
+        }
+    }
+
+    /**
+     * Writes one row per word: the word, whether it repeats a letter, and the worst and
+     * average candidates left after opening with it.
+     *
+     * @param file the CSV file
+     */
+    public void writeWordsCsv(Path file) {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            out.write("word,repeated_letter,worst_remaining,average_remaining\n");
+            for (int w = 0; w < words.size(); w++) {
+                String word = words.get(w);
+                out.write(String.format(Locale.ROOT, "%s,%b,%d,%.4f%n", word, hasRepeatedLetter(word), worst[w], average[w]));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing report to " + file, e);
+        }
+    }
+
+    /**
+     * Writes one row per letter: its occurrences, the words containing it and its
+     * occurrences at each position.
+     *
+     * @param file the CSV file
+     */
+    public void writeLettersCsv(Path file) {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            out.write("letter,occurrences,words");
+            for (int p = 1; p <= words.length(); p++) {
+                out.write(",position_" + p);
+            }
+            out.write('\n');
+            for (int l = 0; l < FeedbackCalculator.ALPHABET_SIZE; l++) {
+                out.write((char) ('A' + l) + "," + occurrences[l] + "," + wordsWithLetter[l]);
+                for (int p = 0; p < words.length(); p++) {
+                    out.write("," + positionCount(p, l));
+                }
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing report to " + file, e);
+        }
+    }
+
+    /**
+     * Writes the whole report as one JSON document.
+     *
+     * @param file the JSON file
+     */
+    public void writeJson(Path file) {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            out.write(String.format(Locale.ROOT, "{\n  \"words\": %d,\n  \"length\": %d,\n  \"duplicateWords\": %d,\n"
+                    + "  \"duplicateRate\": %.6f,\n  \"letters\": [", words.size(), words.length(), duplicateWords, duplicateRate()));
+            for (int l = 0; l < FeedbackCalculator.ALPHABET_SIZE; l++) {
+                out.write(String.format("%s\n    {\"letter\": \"%c\", \"occurrences\": %d, \"words\": %d, \"byPosition\": [",
+                        l == 0 ? "" : ",", (char) ('A' + l), occurrences[l], wordsWithLetter[l]));
+                for (int p = 0; p < words.length(); p++) {
+                    out.write((p == 0 ? "" : ", ") + positionCount(p, l));
+                }
+                out.write("]}");
+            }
+            out.write("\n  ],\n  \"openers\": [");
+            for (int w = 0; w < words.size(); w++) {
+                String word = words.get(w);
+                out.write(String.format(Locale.ROOT, "%s\n    {\"word\": \"%s\", \"repeatedLetter\": %b, \"worst\": %d, \"average\": %.4f}",
+                        w == 0 ? "" : ",", word, hasRepeatedLetter(word), worst[w], average[w]));
+            }
+            out.write("\n  ]\n}\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing report to " + file, e);
+        }
+    }
+
+    private static boolean hasRepeatedLetter(String word) {
+        int seen = 0;
+        for (int i = 0; i < word.length(); i++) {
+            int bit = 1 << (word.charAt(i) - 'A');
+            if ((seen & bit) != 0) {
+                return true;
+            }
+            seen |= bit;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,10 @@
+package com.wordle.exception;
+
+/**
+ * Exception thrown when a well-formed guess is not allowed, for example in hard mode.
+ */
+public class InvalidGuessException extends RuntimeException {
+    public InvalidGuessException(String message) {
+        super(message);
+    }
+}
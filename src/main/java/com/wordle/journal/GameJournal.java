@@ -0,0 +1,395 @@
+package com.wordle.journal;
+
+import com.wordle.GameSession;
+import com.wordle.utils.WordStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only binary log of game events. Every event is one fixed-size record:
+ * <pre>
+ * [0]  long  session id
+ * [8]  long  timestamp, epoch millis
+ * [16] long  packed guess (GUESS records)
+ * [24] int   answer index
+ * [28] short feedback code (GUESS), attempt limit (START) or status ordinal (END)
+ * [30] byte  record type: START, GUESS, END or RESUME
+ * [31] byte  flags (START): 1 if the game is in hard mode, 2 if it was served over TCP
+ * </pre>
+ * after a header that ties the file to one word list.
+ * <p>
+ * Appends only copy the record into the active buffer under a short lock. A daemon
+ * thread swaps in the spare buffer and writes and forces the full one, so every
+ * record that arrives while the disk is busy joins the next batch (group commit)
+ * and one fsync covers thousands of events. {@link #sync()} waits until everything
+ * appended so far is on disk; {@link #close()} syncs and closes the file.
+ */
+public final class GameJournal implements AutoCloseable {
+    /**
+     * Where a game was played, so a player only resumes their own games.
+     */
+    public enum Origin {
+        INTERACTIVE,
+        SERVED
+    }
+
+    static final int MAGIC = 0x574A524E; // "WJRN"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 32;
+
+    static final byte START = 0;
+    static final byte GUESS = 1;
+    static final byte END = 2;
+    static final byte RESUME = 3;
+
+    static final byte HARD_MODE_FLAG = 1;
+    static final byte SERVED_FLAG = 2;
+
+    private static final int BATCH_RECORDS = 8192;
+    private static final int SCAN_RECORDS = 4096;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchReady = lock.newCondition();
+    private final Condition batchWritten = lock.newCondition();
+    private final Thread writer;
+    private ByteBuffer active = newBuffer();
+    private ByteBuffer spare = newBuffer();
+    private long nextSessionId;
+    private long appended;
+    private long written;
+    private IOException failure;
+    private boolean closed;
+
+    private GameJournal(Path file, FileChannel channel, long nextSessionId) {
+        this.file = file;
+        this.channel = channel;
+        this.nextSessionId = nextSessionId;
+        this.writer = new Thread(this::writeBatches, "wordle-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Opens a journal for appending, creating it if it does not exist. A record cut
+     * short by a crash is dropped.
+     *
+     * @param file the journal file
+     * @param words the word list the games are played with
+     * @return the open journal
+     * @throws IllegalStateException if the file is not a journal for that word list
+     */
+    public static GameJournal open(Path file, WordStore words) {
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            try {
+                long size = channel.size();
+                if (size == 0) {
+                    write(channel, header(words), 0);
+                    channel.force(true);
+                    size = HEADER_SIZE;
+                } else {
+                    checkHeader(channel, file, words);
+                }
+                long records = (size - HEADER_SIZE) / RECORD_SIZE;
+                long end = HEADER_SIZE + records * RECORD_SIZE;
+                channel.truncate(end);
+                channel.position(end);
+                return new GameJournal(file, channel, lastSessionId(channel, records) + 1);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening journal " + file, e);
+        }
+    }
+
+    /**
+     * Records the start of an interactive game and assigns it a session id.
+     *
+     * @param answer index of the answer in the word list
+     * @param maxAttempts the number of guesses allowed
+     * @param hardMode whether the game is in hard mode
+     * @return the new session id
+     */
+    public long startSession(int answer, int maxAttempts, boolean hardMode) {
+        return startSession(answer, maxAttempts, hardMode, Origin.INTERACTIVE);
+    }
+
+    /**
+     * Records the start of a game and assigns it a session id.
+     *
+     * @param answer index of the answer in the word list
+     * @param maxAttempts the number of guesses allowed
+     * @param hardMode whether the game is in hard mode
+     * @param origin where the game is played
+     * @return the new session id
+     */
+    public long startSession(int answer, int maxAttempts, boolean hardMode, Origin origin) {
+        int flags = (hardMode ? HARD_MODE_FLAG : 0) | (origin == Origin.SERVED ? SERVED_FLAG : 0);
+        lock.lock();
+        try {
+            // ids are handed out in the order their START records are written, see lastSessionId
+            long sessionId = nextSessionId++;
+            put(sessionId, START, answer, 0, maxAttempts, flags);
+            return sessionId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that an unfinished game was picked up again.
+     *
+     * @param sessionId the session id
+     * @param answer index of the answer in the word list
+     */
+    public void resumeSession(long sessionId, int answer) {
+        append(sessionId, RESUME, answer, 0, 0, 0);
+    }
+
+    /**
+     * Records a scored guess.
+     *
+     * @param sessionId the session id
+     * @param answer index of the answer in the word list
+     * @param packedGuess the guess, packed
+     * @param code the packed feedback code
+     */
+    public void guess(long sessionId, int answer, long packedGuess, int code) {
+        append(sessionId, GUESS, answer, packedGuess, code, 0);
+    }
+
+    /**
+     * Records how a game ended.
+     *
+     * @param sessionId the session id
+     * @param answer index of the answer in the word list
+     * @param status the final status
+     */
+    public void end(long sessionId, int answer, GameSession.Status status) {
+        append(sessionId, END, answer, 0, status.ordinal(), 0);
+    }
+
+    /**
+     * Waits until every record appended so far is on disk.
+     *
+     * @throws UncheckedIOException if writing the journal failed
+     */
+    public void sync() {
+        lock.lock();
+        try {
+            long target = appended;
+            while (written < target && failure == null) {
+                batchWritten.awaitUninterruptibly();
+            }
+            checkFailure();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes out the remaining records and closes the file. Further appends fail;
+     * closing again does nothing.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            batchReady.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join();
+            channel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error closing journal " + file, e);
+        }
+        lock.lock();
+        try {
+            checkFailure();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    private void append(long sessionId, byte type, int answer, long packedGuess, int value, int flags) {
+        lock.lock();
+        try {
+            put(sessionId, type, answer, packedGuess, value, flags);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Copies one record into the active buffer, waiting while both buffers are full.
+     * Must hold the lock.
+     */
+    private void put(long sessionId, byte type, int answer, long packedGuess, int value, int flags) {
+        while (!active.hasRemaining() && !closed && failure == null) {
+            batchWritten.awaitUninterruptibly();
+        }
+        if (closed) {
+            throw new IllegalStateException("Journal " + file + " is closed.");
+        }
+        checkFailure();
+        active.putLong(sessionId)
+                .putLong(System.currentTimeMillis())
+                .putLong(packedGuess)
+                .putInt(answer)
+                .putShort((short) value)
+                .put(type)
+                .put((byte) flags);
+        appended++;
+        if (active.position() == RECORD_SIZE) {
+            batchReady.signal();
+        }
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new UncheckedIOException("Error writing journal " + file, failure);
+        }
+    }
+
+    /**
+     * Writer thread: takes whatever has accumulated, writes and forces it, repeats.
+     */
+    private void writeBatches() {
+        while (true) {
+            ByteBuffer batch;
+            long batchEnd;
+            lock.lock();
+            try {
+                while (active.position() == 0 && !closed) {
+                    batchReady.awaitUninterruptibly();
+                }
+                if (active.position() == 0) {
+                    return;
+                }
+                batch = active;
+                active = spare;
+                spare = batch;
+                batchEnd = appended;
+                batchWritten.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            IOException error = null;
+            try {
+                batch.flip();
+                while (batch.hasRemaining()) {
+                    channel.write(batch);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                error = e;
+            }
+            batch.clear();
+            lock.lock();
+            try {
+                if (error != null) {
+                    failure = error;
+                } else {
+                    written = batchEnd;
+                }
+                batchWritten.signalAll();
+                if (failure != null) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static ByteBuffer newBuffer() {
+        return ByteBuffer.allocateDirect(BATCH_RECORDS * RECORD_SIZE).order(ByteOrder.BIG_ENDIAN);
+    }
+
+    static ByteBuffer header(WordStore words) {
+        return ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(words.fingerprint())
+                .putInt(words.length())
+                .putInt(words.size())
+                .putInt(RECORD_SIZE)
+                .putInt(0)
+                .flip();
+    }
+
+    static void checkHeader(FileChannel channel, Path file, WordStore words) throws IOException {
+        ByteBuffer expected = header(words);
+        ByteBuffer actual = ByteBuffer.allocate(HEADER_SIZE);
+        if (channel.size() < HEADER_SIZE) {
+            throw new IllegalStateException(file + " is not a game journal.");
+        }
+        while (actual.hasRemaining()) {
+            channel.read(actual, actual.position());
+        }
+        actual.flip();
+        if (actual.getInt(0) != MAGIC || actual.getInt(4) != VERSION) {
+            throw new IllegalStateException(file + " is not a game journal of version " + VERSION + ".");
+        }
+        if (!actual.equals(expected)) {
+            throw new IllegalStateException("Journal " + file + " was written for a different word list.");
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Finds the id of the newest session. START records are written in id order, so
+     * it is the id of the last START, found by scanning back from the end.
+     */
+    private static long lastSessionId(FileChannel channel, long records) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(SCAN_RECORDS * RECORD_SIZE).order(ByteOrder.BIG_ENDIAN);
+        for (long to = records; to > 0; ) {
+            long from = Math.max(0, to - SCAN_RECORDS);
+            chunk.clear().limit((int) ((to - from) * RECORD_SIZE));
+            long position = HEADER_SIZE + from * RECORD_SIZE;
+            while (chunk.hasRemaining()) {
+                if (channel.read(chunk, position + chunk.position()) < 0) {
+                    throw new IOException("Journal ended while scanning for the last session.");
+                }
+            }
+            for (int i = (int) (to - from) - 1; i >= 0; i--) {
+                if (chunk.get(i * RECORD_SIZE + 30) == START) {
+                    return chunk.getLong(i * RECORD_SIZE);
+                }
+            }
+            to = from;
+        }
+        return 0;
+    }
+}
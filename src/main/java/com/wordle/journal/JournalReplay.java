@@ -0,0 +1,229 @@
+package com.wordle.journal;
+
+import com.wordle.GameSession;
+import com.wordle.utils.WordStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Statistics and unfinished games rebuilt by reading a {@link GameJournal} from the start.
+ *
+ * @param events the number of records read
+ * @param histogram finished games per attempt count; slot 0 holds the games that were lost
+ * @param unfinished games that were interrupted after at least one guess or never ended,
+ *                   oldest first
+ */
+public record JournalReplay(long events, long[] histogram, List<OpenSession> unfinished) {
+    private static final GameSession.Status[] STATUSES = GameSession.Status.values();
+    private static final int READ_RECORDS = 8192;
+
+    /**
+     * A game that can be resumed.
+     *
+     * @param sessionId the session id to keep journaling under
+     * @param answer index of the answer in the word list
+     * @param maxAttempts the number of guesses allowed
+     * @param hardMode whether the game is in hard mode
+     * @param origin where the game was played
+     * @param guesses the packed guesses played so far, in order
+     * @param lastEventMillis when the game was last played
+     */
+    public record OpenSession(long sessionId, int answer, int maxAttempts, boolean hardMode, GameJournal.Origin origin,
+                              long[] guesses, long lastEventMillis) {
+    }
+
+    /**
+     * Reads a journal.
+     *
+     * @param file the journal file
+     * @param words the word list the games were played with
+     * @return the replayed statistics and unfinished games
+     * @throws IllegalStateException if the file is not a journal for that word list
+     */
+    public static JournalReplay read(Path file, WordStore words) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            GameJournal.checkHeader(channel, file, words);
+            Replayer replayer = new Replayer();
+            ByteBuffer chunk = ByteBuffer.allocate(READ_RECORDS * GameJournal.RECORD_SIZE).order(ByteOrder.BIG_ENDIAN);
+            long position = GameJournal.HEADER_SIZE;
+            while (true) {
+                chunk.clear();
+                while (chunk.hasRemaining() && channel.read(chunk, position + chunk.position()) > 0) {
+                    // keep filling the chunk
+                }
+                int records = chunk.position() / GameJournal.RECORD_SIZE;
+                for (int i = 0; i < records; i++) {
+                    replayer.accept(chunk, i * GameJournal.RECORD_SIZE);
+                }
+                position += (long) records * GameJournal.RECORD_SIZE;
+                if (chunk.hasRemaining()) {
+                    // end of file, possibly inside a record cut short by a crash
+                    return replayer.result();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading journal " + file, e);
+        }
+    }
+
+    public long games() {
+        long games = unfinished.size();
+        for (long count : histogram) {
+            games += count;
+        }
+        return games;
+    }
+
+    /**
+     * Returns the most recently played unfinished game of one origin, so a local player
+     * does not pick up a game a server client left.
+     *
+     * @param origin where the game was played
+     * @return the game, or empty if every such game ended
+     */
+    public Optional<OpenSession> latestUnfinished(GameJournal.Origin origin) {
+        return unfinished.stream()
+                .filter(open -> open.origin() == origin)
+                .max(Comparator.comparingLong(OpenSession::lastEventMillis));
+    }
+
+    /**
+     * Formats the statistics for the console.
+     *
+     * @return a multi-line summary
+     */
+    public String format() {
+        long solved = 0;
+        long guesses = 0;
+        for (int attempts = 1; attempts < histogram.length; attempts++) {
+            solved += histogram[attempts];
+            guesses += attempts * histogram[attempts];
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Events: %d, games: %d, solved: %d, lost: %d, unfinished: %d%n",
+                events, games(), solved, histogram[0], unfinished.size()));
+        sb.append(String.format("Average guesses: %.3f%n", solved == 0 ? 0 : (double) guesses / solved));
+        for (int attempts = 1; attempts < histogram.length; attempts++) {
+            sb.append(String.format("  %d: %d%n", attempts, histogram[attempts]));
+        }
+        sb.append(String.format("  X: %d%n", histogram[0]));
+        return sb.toString();
+    }
+
+    /**
+     * Replays records in order, keeping state only for games that have not ended.
+     */
+    private static final class Replayer {
+        private final Map<Long, Game> games = new HashMap<>();
+        private long[] histogram = new long[1];
+        private long events;
+
+        void accept(ByteBuffer records, int offset) {
+            long sessionId = records.getLong(offset);
+            long timestamp = records.getLong(offset + 8);
+            long packedGuess = records.getLong(offset + 16);
+            int answer = records.getInt(offset + 24);
+            int value = records.getShort(offset + 28) & 0xFFFF;
+            byte type = records.get(offset + 30);
+            events++;
+            Game game = games.get(sessionId);
+            switch (type) {
+                case GameJournal.START -> {
+                    byte flags = records.get(offset + 31);
+                    games.put(sessionId, new Game(sessionId, answer, value, (flags & GameJournal.HARD_MODE_FLAG) != 0,
+                            (flags & GameJournal.SERVED_FLAG) != 0 ? GameJournal.Origin.SERVED : GameJournal.Origin.INTERACTIVE,
+                            timestamp));
+                }
+                case GameJournal.RESUME -> {
+                    if (game != null) {
+                        game.lastEventMillis = timestamp;
+                    }
+                }
+                case GameJournal.GUESS -> {
+                    if (game != null) {
+                        game.add(packedGuess, timestamp);
+                    }
+                }
+                case GameJournal.END -> {
+                    if (game != null) {
+                        end(game, STATUSES[value], timestamp);
+                    }
+                }
+                default -> throw new IllegalStateException("Unknown journal record type " + type + ".");
+            }
+        }
+
+        private void end(Game game, GameSession.Status status, long timestamp) {
+            switch (status) {
+                case SOLVED -> count(game.guessCount);
+                case FAILED -> count(0);
+                case INTERRUPTED, IN_PROGRESS -> {
+                    if (game.guessCount > 0) {
+                        game.lastEventMillis = timestamp;
+                        return;
+                    }
+                    // nothing was played, for example an idle connection: nothing to resume
+                }
+            }
+            games.remove(game.sessionId);
+        }
+
+        private void count(int attempts) {
+            if (attempts >= histogram.length) {
+                histogram = Arrays.copyOf(histogram, attempts + 1);
+            }
+            histogram[attempts]++;
+        }
+
+        JournalReplay result() {
+            List<OpenSession> unfinished = new ArrayList<>(games.size());
+            for (Game game : games.values()) {
+                unfinished.add(new OpenSession(game.sessionId, game.answer, game.maxAttempts, game.hardMode, game.origin,
+                        Arrays.copyOf(game.guesses, game.guessCount), game.lastEventMillis));
+            }
+            unfinished.sort(Comparator.comparingLong(OpenSession::sessionId));
+            return new JournalReplay(events, histogram, List.copyOf(unfinished));
+        }
+    }
+
+    private static final class Game {
+        final long sessionId;
+        final int answer;
+        final int maxAttempts;
+        final boolean hardMode;
+        final GameJournal.Origin origin;
+        long[] guesses = new long[8];
+        int guessCount;
+        long lastEventMillis;
+
+        Game(long sessionId, int answer, int maxAttempts, boolean hardMode, GameJournal.Origin origin, long startMillis) {
+            this.sessionId = sessionId;
+            this.answer = answer;
+            this.maxAttempts = maxAttempts;
+            this.hardMode = hardMode;
+            this.origin = origin;
+            this.lastEventMillis = startMillis;
+        }
+
+        void add(long packedGuess, long timestamp) {
+            if (guessCount == guesses.length) {
+                guesses = Arrays.copyOf(guesses, guessCount * 2);
+            }
+            guesses[guessCount++] = packedGuess;
+            lastEventMillis = timestamp;
+        }
+    }
+}
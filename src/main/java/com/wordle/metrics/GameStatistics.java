@@ -0,0 +1,249 @@
+package com.wordle.metrics;
+
+import com.wordle.utils.WordStore;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Lock-free statistics over every finished game played against one word list: how
+ * often each answer came up and was solved, how many guesses games took, and which
+ * words players open with. Per-word counters live in {@link AtomicLongArray} stripes
+ * indexed by word id. Threads are spread over the stripes by a hash of the thread, so
+ * several threads can share a stripe (64 threads land in at most 16), but games
+ * finishing at the same time mostly update different cache lines, even when they all
+ * opened with the same word. Reads sum the stripes without blocking writers.
+ */
+public class GameStatistics {
+    private static final int MAX_STRIPES = 16;
+    /** Longs per 128 bytes, so neighbouring stripes never share a cache line pair. */
+    private static final int LINE_LONGS = 16;
+
+    private final WordStore words;
+    private final int stripeMask;
+    private final int stride;
+    // per stripe: played and solved per answer, interleaved, then first guesses per word
+    private final AtomicLongArray counts;
+    private final LongAdder[] histogram;
+    private final LongAdder unlistedFirstGuesses = new LongAdder();
+
+    /**
+     * Creates statistics with one stripe per available processor, up to 16.
+     *
+     * @param words the word list answers and first guesses are indexed in
+     * @param maxAttempts the most guesses a game can take
+     */
+    public GameStatistics(WordStore words, int maxAttempts) {
+        this(words, maxAttempts, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates statistics.
+     *
+     * @param words the word list answers and first guesses are indexed in
+     * @param maxAttempts the most guesses a game can take
+     * @param stripes the number of threads expected to record at once; rounded up to a
+     *                power of two and capped at 16
+     */
+    public GameStatistics(WordStore words, int maxAttempts, int stripes) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        }
+        int count = 1;
+        while (count < Math.min(stripes, MAX_STRIPES)) {
+            count <<= 1;
+        }
+        this.words = words;
+        this.stripeMask = count - 1;
+        this.stride = (words.size() * 3 + LINE_LONGS - 1) / LINE_LONGS * LINE_LONGS;
+        this.counts = new AtomicLongArray(count * stride);
+        this.histogram = new LongAdder[maxAttempts + 1];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a finished game. Games abandoned before they were solved or failed are
+     * not recorded.
+     *
+     * @param answer the word id of the answer
+     * @param firstGuess the word id of the first guess, or -1 if it is not in the list
+     * @param attempts the number of guesses played
+     * @param solved whether the last guess found the answer
+     * @throws IllegalArgumentException if an id or the attempt count is out of range
+     */
+    public void record(int answer, int firstGuess, int attempts, boolean solved) {
+        if (answer < 0 || answer >= words.size() || firstGuess < -1 || firstGuess >= words.size()
+                || attempts < 1 || attempts >= histogram.length) {
+            throw new IllegalArgumentException("Game out of range: answer=" + answer + " firstGuess=" + firstGuess
+                    + " attempts=" + attempts);
+        }
+        int base = stripe() * stride;
+        counts.getAndIncrement(base + 2 * answer);
+        if (solved) {
+            counts.getAndIncrement(base + 2 * answer + 1);
+        }
+        if (firstGuess >= 0) {
+            counts.getAndIncrement(base + 2 * words.size() + firstGuess);
+        } else {
+            unlistedFirstGuesses.increment();
+        }
+        histogram[solved ? attempts : 0].increment();
+    }
+
+    public WordStore words() {
+        return words;
+    }
+
+    public int maxAttempts() {
+        return histogram.length - 1;
+    }
+
+    public int stripes() {
+        return stripeMask + 1;
+    }
+
+    /**
+     * Sums every stripe without blocking writers. Games recorded while the snapshot is
+     * taken may be partly included, but an answer is never counted as solved more
+     * often than it was played.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        int size = words.size();
+        long[] played = new long[size];
+        long[] solved = new long[size];
+        long[] firstGuesses = new long[size];
+        long[] attempts = new long[histogram.length];
+        for (int i = 0; i < attempts.length; i++) {
+            attempts[i] = histogram[i].sum();
+        }
+        // solves are read before plays: a writer bumps played first, so every solve seen here has its play too
+        for (int s = 0, base = 0; s <= stripeMask; s++, base += stride) {
+            for (int w = 0; w < size; w++) {
+                solved[w] += counts.get(base + 2 * w + 1);
+            }
+        }
+        for (int s = 0, base = 0; s <= stripeMask; s++, base += stride) {
+            for (int w = 0; w < size; w++) {
+                played[w] += counts.get(base + 2 * w);
+                firstGuesses[w] += counts.get(base + 2 * size + w);
+            }
+        }
+        return new Snapshot(words, played, solved, firstGuesses, unlistedFirstGuesses.sum(), attempts);
+    }
+
+    private int stripe() {
+        // identity hashes are stable per thread, platform or virtual; the multiply spreads neighbouring ones
+        return (Thread.currentThread().hashCode() * 0x9E3779B9 >>> 16) & stripeMask;
+    }
+
+    /**
+     * Point-in-time view of the statistics.
+     *
+     * @param words the word list the arrays are indexed by
+     * @param played games per answer
+     * @param solved solved games per answer
+     * @param firstGuesses games per opening word
+     * @param unlistedFirstGuesses games opened with a word outside the list
+     * @param histogram games per guess count; slot 0 holds the games that were not solved
+     */
+    public record Snapshot(WordStore words, long[] played, long[] solved, long[] firstGuesses,
+                           long unlistedFirstGuesses, long[] histogram) {
+
+        public long games() {
+            long games = 0;
+            for (long count : histogram) {
+                games += count;
+            }
+            return games;
+        }
+
+        public long wins() {
+            return games() - histogram[0];
+        }
+
+        /**
+         * Returns the share of games with the given answer that were solved.
+         *
+         * @param answer the word id
+         * @return the solve rate, or 0 if the word never came up
+         */
+        public double solveRate(int answer) {
+            return played[answer] == 0 ? 0 : (double) solved[answer] / played[answer];
+        }
+
+        /**
+         * Returns the most played opening words.
+         *
+         * @param limit the most words to return
+         * @return word ids, most played first, ties broken by word id
+         */
+        public int[] topFirstGuesses(int limit) {
+            return IntStream.range(0, firstGuesses.length)
+                    .filter(w -> firstGuesses[w] > 0)
+                    .boxed()
+                    .sorted(Comparator.<Integer>comparingLong(w -> -firstGuesses[w]).thenComparingInt(w -> w))
+                    .limit(limit)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        /**
+         * Returns the answers players solved least often.
+         *
+         * @param limit the most words to return
+         * @param minGames the fewest games an answer needs to be ranked
+         * @return word ids, lowest solve rate first, ties broken by more games then word id
+         */
+        public int[] hardestAnswers(int limit, long minGames) {
+            long floor = Math.max(1, minGames);
+            return IntStream.range(0, played.length)
+                    .filter(w -> played[w] >= floor)
+                    .boxed()
+                    .sorted(Comparator.<Integer>comparingDouble(this::solveRate)
+                            .thenComparingLong(w -> -played[w])
+                            .thenComparingInt(w -> w))
+                    .limit(limit)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        /**
+         * Formats the snapshot for the console.
+         *
+         * @param limit the most words listed per ranking
+         * @return a multi-line summary
+         */
+        public String format(int limit) {
+            long games = games();
+            long totalGuesses = 0;
+            for (int attempts = 1; attempts < histogram.length; attempts++) {
+                totalGuesses += attempts * histogram[attempts];
+            }
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("Games: %d, win rate: %.2f%%, average guesses: %.3f%n", games,
+                    games == 0 ? 0 : 100.0 * wins() / games, wins() == 0 ? 0 : (double) totalGuesses / wins()));
+            for (int attempts = 1; attempts < histogram.length; attempts++) {
+                sb.append(String.format("  %d: %d%n", attempts, histogram[attempts]));
+            }
+            sb.append(String.format("  X: %d%n", histogram[0]));
+            sb.append("Top first guesses:");
+            for (int w : topFirstGuesses(limit)) {
+                sb.append(' ').append(words.get(w)).append('=').append(firstGuesses[w]);
+            }
+            if (unlistedFirstGuesses > 0) {
+                sb.append(" (unlisted=").append(unlistedFirstGuesses).append(')');
+            }
+            sb.append(String.format("%nHardest answers:"));
+            for (int w : hardestAnswers(limit, 1)) {
+                sb.append(String.format(" %s=%d/%d", words.get(w), solved[w], played[w]));
+            }
+            return sb.append(String.format("%n")).toString();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.wordle.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with HDR-style log-linear buckets: each power of two
+ * is split into 8 linear sub-buckets, so recorded values keep about 12.5% precision
+ * from nanoseconds to hours. Every bucket is a {@link LongAdder}, so concurrent
+ * writers do not contend on a single cache line.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final String name;
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram(String name) {
+        this.name = name;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos the latency in nanoseconds; negative values are clamped to 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets[bucketOf(value)].increment();
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * Records the time elapsed since a start taken with {@link Metrics#start()}.
+     * Does nothing when metrics are disabled.
+     *
+     * @param startNanos the start time
+     */
+    public void recordSince(long startNanos) {
+        if (Metrics.ENABLED) {
+            record(System.nanoTime() - startNanos);
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Takes a snapshot without blocking writers. Writes racing with the snapshot may or
+     * may not be included.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return new Snapshot(name, counts, count.sum(), totalNanos.sum(), maxNanos.get());
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long lowerBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        return (1L << exponent) | (sub << (exponent - SUB_BUCKET_BITS));
+    }
+
+    /**
+     * Point-in-time view of a histogram.
+     *
+     * @param name the histogram name
+     * @param counts per-bucket counts
+     * @param count the number of recorded values
+     * @param totalNanos the sum of recorded values
+     * @param maxNanos the largest recorded value
+     */
+    public record Snapshot(String name, long[] counts, long count, long totalNanos, long maxNanos) {
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Returns the lower bound of the bucket holding the given percentile.
+         *
+         * @param percentile the percentile, 0..100
+         * @return the latency in nanoseconds
+         */
+        public long percentileNanos(double percentile) {
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(percentile / 100 * total);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank && counts[i] > 0) {
+                    return lowerBoundOf(i);
+                }
+            }
+            return maxNanos;
+        }
+
+        public String format() {
+            return String.format("%s: count=%d mean=%.0fns p50=%dns p99=%dns p99.9=%dns max=%dns",
+                    name, count, meanNanos(), percentileNanos(50), percentileNanos(99),
+                    percentileNanos(99.9), maxNanos);
+        }
+    }
+}
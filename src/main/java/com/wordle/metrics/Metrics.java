@@ -0,0 +1,223 @@
+package com.wordle.metrics;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Process-wide metrics for the hot paths: feedback computation, guess validation,
+ * word list loading, and game outcomes. Recording is lock-free and can be switched
+ * off entirely with {@code -Dwordle.metrics.disabled=true}, in which case the JIT
+ * removes the timing calls.
+ */
+public final class Metrics {
+    public static final boolean ENABLED = !Boolean.getBoolean("wordle.metrics.disabled");
+    public static final String OBJECT_NAME = "com.wordle:type=Metrics";
+
+    private static final LatencyHistogram FEEDBACK = new LatencyHistogram("feedback");
+    private static final LatencyHistogram GUESS_VALIDATION = new LatencyHistogram("guessValidation");
+    private static final LatencyHistogram WORD_LOAD = new LatencyHistogram("wordLoad");
+    private static final LongAdder GAMES_STARTED = new LongAdder();
+    private static final LongAdder GAMES_RESUMED = new LongAdder();
+    private static final LongAdder GAMES_SOLVED = new LongAdder();
+    private static final LongAdder GAMES_FAILED = new LongAdder();
+    private static final LongAdder GAMES_INTERRUPTED = new LongAdder();
+
+    private Metrics() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Returns a start time for {@link LatencyHistogram#recordSince(long)}.
+     *
+     * @return {@link System#nanoTime()}, or 0 when metrics are disabled
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    public static LatencyHistogram feedback() {
+        return FEEDBACK;
+    }
+
+    public static LatencyHistogram guessValidation() {
+        return GUESS_VALIDATION;
+    }
+
+    public static LatencyHistogram wordLoad() {
+        return WORD_LOAD;
+    }
+
+    public static void gameStarted() {
+        if (ENABLED) {
+            GAMES_STARTED.increment();
+        }
+    }
+
+    /**
+     * Counts a game picked up from a journal. It was already counted as started by
+     * the process that began it, so it is not counted again.
+     */
+    public static void gameResumed() {
+        if (ENABLED) {
+            GAMES_RESUMED.increment();
+        }
+    }
+
+    public static void gameSolved() {
+        if (ENABLED) {
+            GAMES_SOLVED.increment();
+        }
+    }
+
+    public static void gameFailed() {
+        if (ENABLED) {
+            GAMES_FAILED.increment();
+        }
+    }
+
+    /**
+     * Counts a game abandoned before it was solved or failed, for example by the
+     * shutdown hook or a dropped connection.
+     */
+    public static void gameInterrupted() {
+        if (ENABLED) {
+            GAMES_INTERRUPTED.increment();
+        }
+    }
+
+    public static long gamesStarted() {
+        return GAMES_STARTED.sum();
+    }
+
+    public static long gamesResumed() {
+        return GAMES_RESUMED.sum();
+    }
+
+    public static long gamesInProgress() {
+        return GAMES_STARTED.sum() + GAMES_RESUMED.sum() - GAMES_SOLVED.sum() - GAMES_FAILED.sum() - GAMES_INTERRUPTED.sum();
+    }
+
+    /**
+     * Formats every metric as text.
+     *
+     * @return a multi-line report
+     */
+    public static String dump() {
+        return String.format("games: started=%d resumed=%d inProgress=%d solved=%d failed=%d interrupted=%d%n%s%n%s%n%s%n",
+                GAMES_STARTED.sum(), GAMES_RESUMED.sum(), gamesInProgress(), GAMES_SOLVED.sum(), GAMES_FAILED.sum(), GAMES_INTERRUPTED.sum(),
+                FEEDBACK.snapshot().format(), GUESS_VALIDATION.snapshot().format(), WORD_LOAD.snapshot().format());
+    }
+
+    /**
+     * Prints {@link #dump()} at a fixed interval from a daemon thread.
+     *
+     * @param interval the time between dumps
+     * @param out the stream to print to
+     * @return the scheduler, to stop the dumps
+     */
+    public static ScheduledExecutorService startPeriodicDump(Duration interval, PrintStream out) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "wordle-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleAtFixedRate(() -> out.print(dump()), millis, millis, TimeUnit.MILLISECONDS);
+        return scheduler;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server, once.
+     */
+    public static synchronized void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MBean(), name);
+            }
+        } catch (JMException e) {
+            System.err.println("Could not register metrics MBean: " + e.getMessage());
+        }
+    }
+
+    private static final class MBean implements MetricsMXBean {
+        @Override
+        public long getGamesStarted() {
+            return gamesStarted();
+        }
+
+        @Override
+        public long getGamesResumed() {
+            return gamesResumed();
+        }
+
+        @Override
+        public long getGamesInProgress() {
+            return gamesInProgress();
+        }
+
+        @Override
+        public long getGamesSolved() {
+            return GAMES_SOLVED.sum();
+        }
+
+        @Override
+        public long getGamesFailed() {
+            return GAMES_FAILED.sum();
+        }
+
+        @Override
+        public long getGamesInterrupted() {
+            return GAMES_INTERRUPTED.sum();
+        }
+
+        @Override
+        public long getFeedbackCount() {
+            return FEEDBACK.snapshot().count();
+        }
+
+        @Override
+        public double getFeedbackMeanNanos() {
+            return FEEDBACK.snapshot().meanNanos();
+        }
+
+        @Override
+        public long getFeedbackP99Nanos() {
+            return FEEDBACK.snapshot().percentileNanos(99);
+        }
+
+        @Override
+        public long getGuessValidationCount() {
+            return GUESS_VALIDATION.snapshot().count();
+        }
+
+        @Override
+        public long getGuessValidationP99Nanos() {
+            return GUESS_VALIDATION.snapshot().percentileNanos(99);
+        }
+
+        @Override
+        public long getWordLoadCount() {
+            return WORD_LOAD.snapshot().count();
+        }
+
+        @Override
+        public long getWordLoadMaxNanos() {
+            return WORD_LOAD.snapshot().maxNanos();
+        }
+
+        @Override
+        public String getReport() {
+            return dump();
+        }
+    }
+}
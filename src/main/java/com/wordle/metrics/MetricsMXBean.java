@@ -0,0 +1,34 @@
+package com.wordle.metrics;
+
+/**
+ * JMX view of {@link Metrics}, registered as {@value Metrics#OBJECT_NAME}.
+ */
+public interface MetricsMXBean {
+    long getGamesStarted();
+
+    long getGamesResumed();
+
+    long getGamesInProgress();
+
+    long getGamesSolved();
+
+    long getGamesFailed();
+
+    long getGamesInterrupted();
+
+    long getFeedbackCount();
+
+    double getFeedbackMeanNanos();
+
+    long getFeedbackP99Nanos();
+
+    long getGuessValidationCount();
+
+    long getGuessValidationP99Nanos();
+
+    long getWordLoadCount();
+
+    long getWordLoadMaxNanos();
+
+    String getReport();
+}
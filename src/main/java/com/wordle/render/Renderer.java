@@ -0,0 +1,44 @@
+package com.wordle.render;
+
+/**
+ * Console output of an interactive game, collected into frames. Text is buffered
+ * until {@link #flush()}, which the game calls once before it waits for input, so
+ * a whole turn reaches the terminal in one write. Headless modes such as
+ * {@code --simulate} and {@code --server} never create one.
+ */
+public interface Renderer {
+
+    /**
+     * Appends text to the current frame.
+     *
+     * @param text the text
+     */
+    void text(String text);
+
+    /**
+     * Appends text and a line break to the current frame.
+     *
+     * @param line the line
+     */
+    void line(String line);
+
+    /**
+     * Appends raw bytes, such as a banner file, to the current frame.
+     *
+     * @param bytes the bytes
+     */
+    void bytes(byte[] bytes);
+
+    /**
+     * Appends a guess with its letters colored by feedback, and a line break.
+     *
+     * @param guess the guess, as long as the game's words
+     * @param code the packed feedback code
+     */
+    void feedback(String guess, int code);
+
+    /**
+     * Writes the current frame out and starts a new one.
+     */
+    void flush();
+}
@@ -0,0 +1,161 @@
+package com.wordle.render;
+
+import com.wordle.utils.FeedbackCalculator;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Renders frames into one reusable buffer and writes each frame to a channel in a
+ * single call, instead of a synchronized {@code PrintStream} call per tile.
+ * <p>
+ * The colored row for a feedback code is the same for every guess except for the
+ * letters, so each code gets a byte template with the ANSI escapes already in place
+ * and the letter offsets recorded; rendering a guess copies the template and writes
+ * in the letters. Templates are built on first use, so 8-letter games do not pay for
+ * all 6561 up front. Not thread-safe: a renderer belongs to one game.
+ */
+public final class TerminalRenderer implements Renderer {
+    private static final String GREEN_BG = "\u001B[42m";
+    private static final String YELLOW_BG = "\u001B[43m";
+    private static final String RESET_STYLE_STRING = "\u001B[0m";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final WritableByteChannel out;
+    private final int wordLength;
+    private final byte[][] templates;
+    private final int[][] letterOffsets;
+    private final ByteBuffer frame = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /**
+     * Creates a renderer writing to a channel.
+     *
+     * @param out the channel frames are written to
+     * @param wordLength the length of the guesses it renders
+     */
+    public TerminalRenderer(WritableByteChannel out, int wordLength) {
+        int patterns = FeedbackCalculator.patternCount(wordLength);
+        this.out = out;
+        this.wordLength = wordLength;
+        this.templates = new byte[patterns][];
+        this.letterOffsets = new int[patterns][];
+    }
+
+    /**
+     * Creates a renderer writing straight to the standard output file descriptor.
+     *
+     * @param wordLength the length of the guesses it renders
+     * @return the renderer
+     */
+    public static TerminalRenderer stdout(int wordLength) {
+        return new TerminalRenderer(Channels.newChannel(new FileOutputStream(FileDescriptor.out)), wordLength);
+    }
+
+    @Override
+    public void text(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                bytes(text.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!frame.hasRemaining()) {
+                writeFrame();
+            }
+            frame.put((byte) text.charAt(i));
+        }
+    }
+
+    @Override
+    public void line(String line) {
+        text(line);
+        text("\n");
+    }
+
+    @Override
+    public void bytes(byte[] bytes) {
+        if (bytes.length > frame.remaining()) {
+            writeFrame();
+            if (bytes.length > frame.capacity()) {
+                write(ByteBuffer.wrap(bytes));
+                return;
+            }
+        }
+        frame.put(bytes);
+    }
+
+    @Override
+    public void feedback(String guess, int code) {
+        if (guess.length() != wordLength) {
+            throw new IllegalArgumentException("Guess must have " + wordLength + " letters: " + guess);
+        }
+        byte[] template = templates[code];
+        if (template == null) {
+            template = buildTemplate(code);
+        }
+        if (template.length > frame.remaining()) {
+            writeFrame();
+        }
+        int start = frame.position();
+        frame.put(template);
+        int[] offsets = letterOffsets[code];
+        for (int i = 0; i < wordLength; i++) {
+            frame.put(start + offsets[i], (byte) guess.charAt(i));
+        }
+    }
+
+    @Override
+    public void flush() {
+        writeFrame();
+    }
+
+    /**
+     * Builds the row for a feedback code with a blank where each letter goes: colored
+     * tiles are {@code BG + " " + letter + " " + RESET}, absent ones {@code " " + letter + " "}.
+     */
+    private byte[] buildTemplate(int code) {
+        StringBuilder row = new StringBuilder();
+        int[] offsets = new int[wordLength];
+        for (int i = 0; i < wordLength; i++) {
+            String background = switch (FeedbackCalculator.hintAt(code, i)) {
+                case GREEN -> GREEN_BG;
+                case YELLOW -> YELLOW_BG;
+                case ABSENT -> "";
+            };
+            row.append(background).append(' ');
+            offsets[i] = row.length();
+            row.append('?').append(' ');
+            if (!background.isEmpty()) {
+                row.append(RESET_STYLE_STRING);
+            }
+        }
+        row.append('\n');
+        byte[] template = row.toString().getBytes(StandardCharsets.US_ASCII);
+        letterOffsets[code] = offsets;
+        templates[code] = template;
+        return template;
+    }
+
+    private void writeFrame() {
+        frame.flip();
+        write(frame);
+        frame.clear();
+    }
+
+    private void write(ByteBuffer bytes) {
+        try {
+            while (bytes.hasRemaining()) {
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing to terminal", e);
+        }
+    }
+}
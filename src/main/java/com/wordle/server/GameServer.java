@@ -0,0 +1,352 @@
+package com.wordle.server;
+
+import com.wordle.GameSession;
+import com.wordle.WordleGame;
+import com.wordle.journal.GameJournal;
+import com.wordle.metrics.GameStatistics;
+import com.wordle.utils.AnswerPicker;
+import com.wordle.utils.ConstraintIndex;
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.WordValidator;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Line-based TCP game server running one {@link GameSession} per connection, each on
+ * its own virtual thread. All sessions share one immutable word store and constraint index.
+ * <p>
+ * Protocol, one line per message, ASCII:
+ * <pre>
+ * server: WELCOME &lt;wordLength&gt; &lt;maxAttempts&gt;
+ * client: &lt;guess&gt;            server: FEEDBACK &lt;pattern&gt; &lt;remaining&gt;
+ *                                  | SOLVED &lt;pattern&gt; &lt;attempts&gt;
+ *                                  | FAILED &lt;pattern&gt; &lt;answer&gt;
+ *                                  | INVALID [&lt;reason&gt;]
+ * client: QUIT               server: BYE
+ * </pre>
+ * A pattern holds one character per letter: {@code G} green, {@code Y} yellow,
+ * {@code .} absent. The first guess, and the guess after SOLVED or FAILED, starts a new
+ * game. In hard mode a guess that is not listed or ignores a revealed hint gets INVALID
+ * with the reason. A line longer than {@value #MAX_LINE_LENGTH} characters gets
+ * {@code INVALID line too long} and closes the connection.
+ */
+public class GameServer implements AutoCloseable {
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int WRITE_BUFFER_SIZE = 64;
+    static final int MAX_LINE_LENGTH = 64;
+
+    private final ConstraintIndex index;
+    private final int maxAttempts;
+    private final boolean hardMode;
+    private final GameJournal journal;
+    private final GameStatistics statistics;
+    private final AnswerPicker picker;
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private Thread acceptor;
+
+    private GameServer(Builder builder) throws IOException {
+        this.index = builder.index;
+        this.maxAttempts = builder.maxAttempts;
+        this.hardMode = builder.hardMode;
+        this.journal = builder.journal;
+        this.statistics = builder.statistics;
+        this.picker = builder.picker == null ? AnswerPicker.random() : builder.picker;
+        this.serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(builder.port), 1024);
+    }
+
+    /**
+     * Starts setting up a server over a word list. Every option has a default, so
+     * {@code GameServer.builder(index).bind()} serves normal games with
+     * {@value WordleGame#DEFAULT_MAX_ATTEMPTS} attempts on any free port.
+     *
+     * @param index the shared constraint index over the word list
+     * @return the builder
+     */
+    public static Builder builder(ConstraintIndex index) {
+        return new Builder(index);
+    }
+
+    /**
+     * Starts accepting connections on a virtual thread.
+     */
+    public void start() {
+        acceptor = Thread.ofVirtual().name("wordle-acceptor").start(this::acceptLoop);
+    }
+
+    /**
+     * Blocks until the server is closed.
+     *
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public void join() throws InterruptedException {
+        acceptor.join();
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int activeSessions() {
+        return activeSessions.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        sessions.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                // split on the acceptor thread, the only user of the root picker
+                AnswerPicker sessionPicker = picker.split();
+                sessions.execute(() -> serve(socket, sessionPicker));
+            } catch (SocketException e) {
+                // closed while accepting
+            } catch (IOException e) {
+                System.err.println("Error accepting connection: " + e.getMessage());
+            }
+        }
+    }
+
+    private void serve(Socket socket, AnswerPicker sessionPicker) {
+        activeSessions.incrementAndGet();
+        GameSession session = null;
+        int firstGuess = -1;
+        try (socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII), READ_BUFFER_SIZE);
+             Writer out = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII), WRITE_BUFFER_SIZE)) {
+            socket.setTcpNoDelay(true);
+            send(out, "WELCOME " + index.length() + " " + maxAttempts);
+            StringBuilder buffer = new StringBuilder(MAX_LINE_LENGTH + 1);
+            String line;
+            while ((line = readLine(in, buffer)) != null) {
+                if (line.length() > MAX_LINE_LENGTH) {
+                    send(out, "INVALID line too long");
+                    break;
+                }
+                if (line.trim().equalsIgnoreCase("QUIT")) {
+                    send(out, "BYE");
+                    break;
+                }
+                long guess = GameSession.parseGuess(line, index.length());
+                if (guess == WordValidator.INVALID) {
+                    send(out, "INVALID");
+                    continue;
+                }
+                if (session == null || session.isOver()) {
+                    session = newSession(sessionPicker);
+                }
+                String reason = session.rejectReason(guess);
+                if (reason != null) {
+                    send(out, "INVALID " + reason);
+                    continue;
+                }
+                if (session.attempts() == 0) {
+                    firstGuess = index.words().indexOf(guess);
+                }
+                int code = session.guess(guess);
+                if (statistics != null && session.isOver()) {
+                    statistics.record(session.answerIndex(), firstGuess, session.attempts(),
+                            session.status() == GameSession.Status.SOLVED);
+                }
+                send(out, reply(session, code));
+            }
+        } catch (IOException e) {
+            // client went away; nothing to clean up beyond the socket
+        } finally {
+            if (session != null) {
+                session.abandon();
+            }
+            activeSessions.decrementAndGet();
+        }
+    }
+
+    /**
+     * Reads one line without its terminator, like {@link BufferedReader#readLine()}, but
+     * stops once it holds more than {@link #MAX_LINE_LENGTH} characters, not counting a
+     * final carriage return, so a client cannot make the server buffer an endless line.
+     * A longer result means the line was too long.
+     *
+     * @param in the connection's reader
+     * @param buffer a buffer reused across lines
+     * @return the line, or null at the end of the stream
+     * @throws IOException if reading fails
+     */
+    static String readLine(Reader in, StringBuilder buffer) throws IOException {
+        buffer.setLength(0);
+        int c;
+        while ((c = in.read()) != -1 && c != '\n') {
+            buffer.append((char) c);
+            // one extra character is allowed if it is the \r of a CRLF terminator
+            if (buffer.length() > MAX_LINE_LENGTH && (buffer.length() > MAX_LINE_LENGTH + 1 || c != '\r')) {
+                return buffer.toString();
+            }
+        }
+        if (c == -1 && buffer.isEmpty()) {
+            return null;
+        }
+        int end = buffer.length();
+        if (end > 0 && buffer.charAt(end - 1) == '\r') {
+            end--;
+        }
+        return buffer.substring(0, end);
+    }
+
+    private GameSession newSession(AnswerPicker sessionPicker) {
+        int answer = sessionPicker.next(index.size());
+        return new GameSession(index, answer, maxAttempts, hardMode, journal, GameJournal.Origin.SERVED);
+    }
+
+    private static String reply(GameSession session, int code) {
+        return switch (session.status()) {
+            case SOLVED -> "SOLVED " + pattern(code, session.wordLength()) + " " + session.attempts();
+            case FAILED -> "FAILED " + pattern(code, session.wordLength()) + " " + session.answer();
+            case IN_PROGRESS, INTERRUPTED -> "FEEDBACK " + pattern(code, session.wordLength()) + " " + session.remainingCandidates();
+        };
+    }
+
+    /**
+     * Formats a packed feedback code as G / Y / . characters.
+     *
+     * @param code the packed feedback code
+     * @param length the word length
+     * @return the pattern
+     */
+    static String pattern(int code, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = switch (FeedbackCalculator.hintAt(code, i)) {
+                case GREEN -> 'G';
+                case YELLOW -> 'Y';
+                case ABSENT -> '.';
+            };
+        }
+        return new String(chars);
+    }
+
+    private static void send(Writer out, String message) throws IOException {
+        out.write(message);
+        out.write('\n');
+        out.flush();
+    }
+
+    /**
+     * Options of a {@link GameServer}, set one at a time before the socket is bound.
+     */
+    public static final class Builder {
+        private final ConstraintIndex index;
+        private int maxAttempts = WordleGame.DEFAULT_MAX_ATTEMPTS;
+        private boolean hardMode;
+        private int port;
+        private GameJournal journal;
+        private GameStatistics statistics;
+        private AnswerPicker picker;
+
+        private Builder(ConstraintIndex index) {
+            this.index = index;
+        }
+
+        /**
+         * Sets how many guesses every game allows.
+         *
+         * @param maxAttempts the number of guesses allowed per game
+         * @return this builder
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("Attempt count must be positive: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Plays every game in hard mode, or not.
+         *
+         * @param hardMode whether guesses must be listed words that reuse every revealed hint
+         * @return this builder
+         */
+        public Builder hardMode(boolean hardMode) {
+            this.hardMode = hardMode;
+            return this;
+        }
+
+        /**
+         * Sets the port to listen on.
+         *
+         * @param port the port to listen on, or 0 for any free port
+         * @return this builder
+         */
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * Records every game in a journal.
+         *
+         * @param journal the journal every game is recorded in, or null
+         * @return this builder
+         */
+        public Builder journal(GameJournal journal) {
+            this.journal = journal;
+            return this;
+        }
+
+        /**
+         * Records every finished game in shared statistics.
+         *
+         * @param statistics the statistics every finished game is recorded in, or null
+         * @return this builder
+         */
+        public Builder statistics(GameStatistics statistics) {
+            this.statistics = statistics;
+            return this;
+        }
+
+        /**
+         * Picks answers from a given picker. The acceptor splits one picker off it per
+         * connection, so every session draws from its own stream and a seeded server
+         * replays the same games for the same connection order.
+         *
+         * @param picker the picker sessions are split from, or null for a randomly seeded one
+         * @return this builder
+         */
+        public Builder answers(AnswerPicker picker) {
+            this.picker = picker;
+            return this;
+        }
+
+        /**
+         * Binds the server socket. The server accepts connections once {@link GameServer#start() started}.
+         *
+         * @return the server
+         * @throws IOException if the socket cannot be bound
+         */
+        public GameServer bind() throws IOException {
+            return new GameServer(this);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.wordle.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Load generator for {@link GameServer}. Holds a number of idle sessions open while
+ * active clients, each on a virtual thread, send guesses and time every reply.
+ * <p>
+ * Usage: {@code LoadGenerator <host> <port> <clients> <requestsPerClient> [idleSessions]}
+ */
+public class LoadGenerator {
+    private LoadGenerator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Latency percentiles of a load run.
+     *
+     * @param requests the number of timed requests
+     * @param elapsedNanos wall-clock time of the run
+     * @param p50Nanos median latency
+     * @param p99Nanos 99th percentile latency
+     * @param p999Nanos 99.9th percentile latency
+     * @param maxNanos worst latency
+     */
+    public record Result(long requests, long elapsedNanos, long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+        public double requestsPerSecond() {
+            return requests * 1e9 / elapsedNanos;
+        }
+
+        public String format() {
+            return String.format("Requests: %d in %.1f ms (%.0f req/s)%np50: %.3f ms, p99: %.3f ms, p99.9: %.3f ms, max: %.3f ms%n",
+                    requests, elapsedNanos / 1e6, requestsPerSecond(),
+                    p50Nanos / 1e6, p99Nanos / 1e6, p999Nanos / 1e6, maxNanos / 1e6);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("Usage: LoadGenerator <host> <port> <clients> <requestsPerClient> [idleSessions]");
+            System.exit(1);
+        }
+        Result result = run(args[0], Integer.parseInt(args[1]), Integer.parseInt(args[2]),
+                Integer.parseInt(args[3]), args.length > 4 ? Integer.parseInt(args[4]) : 0);
+        System.out.print(result.format());
+    }
+
+    /**
+     * Runs a load test against a server.
+     *
+     * @param host the server host
+     * @param port the server port
+     * @param clients the number of concurrently guessing clients
+     * @param requestsPerClient the number of guesses each client sends
+     * @param idleSessions the number of extra sessions held open without traffic
+     * @return the measured latencies
+     * @throws Exception if a connection fails
+     */
+    public static Result run(String host, int port, int clients, int requestsPerClient, int idleSessions) throws Exception {
+        List<Socket> idle = new ArrayList<>(idleSessions);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < idleSessions; i++) {
+                Socket socket = new Socket(host, port);
+                idle.add(socket);
+                new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII)).readLine();
+            }
+
+            long start = System.nanoTime();
+            List<Future<long[]>> futures = new ArrayList<>(clients);
+            for (int c = 0; c < clients; c++) {
+                futures.add(executor.submit(() -> client(host, port, requestsPerClient)));
+            }
+            long[] latencies = new long[clients * requestsPerClient];
+            int n = 0;
+            for (Future<long[]> future : futures) {
+                long[] clientLatencies = future.get();
+                System.arraycopy(clientLatencies, 0, latencies, n, clientLatencies.length);
+                n += clientLatencies.length;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            Arrays.sort(latencies);
+            return new Result(latencies.length, elapsed,
+                    percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999),
+                    latencies.length == 0 ? 0 : latencies[latencies.length - 1]);
+        } finally {
+            for (Socket socket : idle) {
+                socket.close();
+            }
+        }
+    }
+
+    private static long[] client(String host, int port, int requests) {
+        long[] latencies = new long[requests];
+        byte[] guess = new byte[6];
+        guess[5] = '\n';
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            OutputStream out = socket.getOutputStream();
+            in.readLine();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int r = 0; r < requests; r++) {
+                for (int i = 0; i < 5; i++) {
+                    guess[i] = (byte) ('A' + random.nextInt(26));
+                }
+                long start = System.nanoTime();
+                out.write(guess);
+                out.flush();
+                if (in.readLine() == null) {
+                    throw new IOException("Server closed the connection");
+                }
+                latencies[r] = System.nanoTime() - start;
+            }
+            out.write("QUIT\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            in.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return latencies;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,60 @@
+package com.wordle.simulation;
+
+/**
+ * Aggregated results of a simulation run.
+ *
+ * @param histogram games per attempt count; slot 0 holds the games that were not solved
+ * @param elapsedNanos wall-clock time of the run
+ */
+public record SimulationReport(long[] histogram, long elapsedNanos) {
+
+    public long games() {
+        long games = 0;
+        for (long count : histogram) {
+            games += count;
+        }
+        return games;
+    }
+
+    public long wins() {
+        return games() - histogram[0];
+    }
+
+    public double winRate() {
+        return games() == 0 ? 0 : (double) wins() / games();
+    }
+
+    /**
+     * Returns the average number of guesses over the games that were solved.
+     *
+     * @return the average guess count
+     */
+    public double averageGuesses() {
+        long total = 0;
+        for (int attempts = 1; attempts < histogram.length; attempts++) {
+            total += attempts * histogram[attempts];
+        }
+        return wins() == 0 ? 0 : (double) total / wins();
+    }
+
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Formats the report for the console.
+     *
+     * @return a multi-line summary
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games: %d, win rate: %.2f%%, average guesses: %.3f%n",
+                games(), winRate() * 100, averageGuesses()));
+        for (int attempts = 1; attempts < histogram.length; attempts++) {
+            sb.append(String.format("  %d: %d%n", attempts, histogram[attempts]));
+        }
+        sb.append(String.format("  X: %d%n", histogram[0]));
+        sb.append(String.format("Throughput: %.1f games/s (%.1f ms)%n", gamesPerSecond(), elapsedNanos / 1e6));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,115 @@
+package com.wordle.simulation;
+
+import com.wordle.solver.GuessStrategy;
+import com.wordle.utils.CandidateSet;
+import com.wordle.utils.ConstraintIndex;
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.FeedbackMatrix;
+import com.wordle.utils.WordStore;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Headless batch runner that plays every word of a list as the answer, in parallel,
+ * with no console I/O per game. With a {@link FeedbackMatrix} over the word list, each
+ * guess's feedback is looked up instead of computed.
+ */
+public class Simulator {
+    private final ConstraintIndex index;
+    private final int maxAttempts;
+    private final ForkJoinPool pool;
+    private final long[] packedWords;
+    private final byte[][] encodedWords;
+    private final int wordLength;
+    private final int allGreen;
+    private final FeedbackMatrix matrix;
+
+    /**
+     * Creates a simulator over the words of a constraint index.
+     *
+     * @param index the index whose words are both the answers and the allowed guesses
+     * @param maxAttempts the number of guesses allowed per game
+     * @param pool the pool games are played on
+     */
+    public Simulator(ConstraintIndex index, int maxAttempts, ForkJoinPool pool) {
+        this(index, maxAttempts, pool, null);
+    }
+
+    /**
+     * Creates a simulator that looks feedback up in a precomputed matrix.
+     *
+     * @param index the index whose words are both the answers and the allowed guesses
+     * @param maxAttempts the number of guesses allowed per game
+     * @param pool the pool games are played on
+     * @param matrix a matrix with the index's words as both answers and guesses, or null
+     * @throws IllegalArgumentException if the matrix was built for another word list
+     */
+    public Simulator(ConstraintIndex index, int maxAttempts, ForkJoinPool pool, FeedbackMatrix matrix) {
+        if (matrix != null && !matrix.covers(index.words())) {
+            throw new IllegalArgumentException("Feedback matrix was built for another word list.");
+        }
+        this.matrix = matrix;
+        this.index = index;
+        this.maxAttempts = maxAttempts;
+        this.pool = pool;
+        WordStore words = index.words();
+        this.wordLength = words.length();
+        this.allGreen = FeedbackCalculator.allGreen(wordLength);
+        this.packedWords = new long[words.size()];
+        this.encodedWords = new byte[words.size()][wordLength];
+        for (int i = 0; i < packedWords.length; i++) {
+            packedWords[i] = words.packed(i);
+            FeedbackCalculator.unpackLetters(packedWords[i], encodedWords[i]);
+        }
+    }
+
+    /**
+     * Plays one game against every answer in the word list.
+     *
+     * @param strategy the strategy choosing each guess
+     * @return the aggregated results
+     */
+    public SimulationReport run(GuessStrategy strategy) {
+        long start = System.nanoTime();
+        int[] attempts;
+        try {
+            attempts = pool.submit(() -> IntStream.range(0, packedWords.length)
+                    .parallel()
+                    .map(answer -> play(strategy, answer))
+                    .toArray()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] histogram = new long[maxAttempts + 1];
+        for (int a : attempts) {
+            histogram[a]++;
+        }
+        return new SimulationReport(histogram, elapsed);
+    }
+
+    /**
+     * Plays a single game.
+     *
+     * @return the attempt the answer was found in, or 0 if it was not found
+     */
+    int play(GuessStrategy strategy, int answer) {
+        CandidateSet candidates = index.newCandidateSet();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            int guess = strategy.nextGuess(candidates, attempt);
+            int code = matrix != null ? matrix.code(answer, guess)
+                    : FeedbackCalculator.computeFeedbackCode(packedWords[answer], packedWords[guess], wordLength);
+            if (code == allGreen) {
+                return attempt;
+            }
+            candidates.apply(encodedWords[guess], code);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,296 @@
+package com.wordle.solver;
+
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.WordStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Precompiled solver decision tree over a fixed word list: the guess to play at the
+ * root, then one child per feedback code that can follow it, recursively, until every
+ * answer is solved. Built greedily with {@link EntropySolver}.
+ * <p>
+ * The tree is one flat int array so it can be memory-mapped and walked without
+ * allocation. A node at offset {@code n} is laid out as
+ * <pre>
+ * [n]          guess word index
+ * [n + 1]      child count k
+ * [n + 2 + 2i] feedback code of child i, ascending
+ * [n + 3 + 2i] offset of child i
+ * </pre>
+ * with the root at offset 0. Finding a child is a binary search over at most
+ * 3^length codes, so a walk costs O(depth).
+ */
+public final class DecisionTree {
+    /** Offset of the root node. */
+    public static final int ROOT = 0;
+    /** Returned by {@link #child(int, int)} when the feedback cannot occur. */
+    public static final int NO_NODE = -1;
+
+    private static final int MAGIC = 0x57445452; // "WDTR"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 28;
+
+    private final WordStore words;
+    private final IntBuffer nodes;
+
+    private DecisionTree(WordStore words, IntBuffer nodes) {
+        this.words = words;
+        this.nodes = nodes;
+    }
+
+    /**
+     * Compiles the tree over every word of the solver's list, used both as answers and guesses.
+     *
+     * @param solver the solver choosing the guess at every node
+     * @return the compiled tree
+     */
+    public static DecisionTree compile(EntropySolver solver) {
+        WordStore words = solver.words();
+        int[] all = new int[words.size()];
+        Arrays.setAll(all, i -> i);
+        Compiler compiler = new Compiler(solver);
+        compiler.compile(all, all.length);
+        return new DecisionTree(words, IntBuffer.wrap(compiler.nodes, 0, compiler.size).slice());
+    }
+
+    /**
+     * Loads the tree from a file, or compiles and saves it when the file is missing or
+     * was compiled for a different word list.
+     *
+     * @param file the tree file
+     * @param solver the solver over the word list
+     * @return the loaded or compiled tree
+     */
+    public static DecisionTree loadOrCompile(Path file, EntropySolver solver) {
+        Optional<DecisionTree> cached = load(file, solver.words());
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        DecisionTree tree = compile(solver);
+        tree.save(file);
+        return tree;
+    }
+
+    /**
+     * Memory-maps a tree file written by {@link #save(Path)}.
+     *
+     * @param file the tree file
+     * @param words the word list the tree must have been compiled for
+     * @return the tree, or empty if the file is missing, of another version or compiled for another word list
+     */
+    public static Optional<DecisionTree> load(Path file, WordStore words) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || (size - HEADER_SIZE) % Integer.BYTES != 0) {
+                return Optional.empty();
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (mapped.getInt() != MAGIC || mapped.getInt() != VERSION
+                    || mapped.getLong() != words.fingerprint()
+                    || mapped.getInt() != words.length()
+                    || mapped.getInt() != words.size()
+                    || mapped.getInt() != (size - HEADER_SIZE) / Integer.BYTES) {
+                return Optional.empty();
+            }
+            IntBuffer nodes = mapped.slice(HEADER_SIZE, (int) (size - HEADER_SIZE)).asIntBuffer();
+            return Optional.of(new DecisionTree(words, nodes));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading decision tree from " + file, e);
+        }
+    }
+
+    /**
+     * Writes the tree to a file. The file is written next to the target and moved
+     * into place, so readers never see a partial file.
+     *
+     * @param file the tree file
+     */
+    public void save(Path file) {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + nodes.limit() * Integer.BYTES).order(ByteOrder.BIG_ENDIAN)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putLong(words.fingerprint())
+                    .putInt(words.length())
+                    .putInt(words.size())
+                    .putInt(nodes.limit());
+            for (int i = 0; i < nodes.limit(); i++) {
+                buffer.putInt(nodes.get(i));
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing decision tree to " + file, e);
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing decision tree to " + file, e);
+        }
+    }
+
+    /**
+     * Returns the guess to play at a node.
+     *
+     * @param node the node offset
+     * @return the index of the guess in the word list
+     */
+    public int guess(int node) {
+        return nodes.get(node);
+    }
+
+    /**
+     * Returns the node to continue from after the guess at {@code node} got feedback {@code code}.
+     *
+     * @param node the node offset
+     * @param code the packed feedback code
+     * @return the child offset, or {@link #NO_NODE} if the guess solved the game or
+     *         no remaining answer gives that feedback
+     */
+    public int child(int node, int code) {
+        int low = 0;
+        int high = nodes.get(node + 1) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midCode = nodes.get(node + 2 + 2 * mid);
+            if (midCode < code) {
+                low = mid + 1;
+            } else if (midCode > code) {
+                high = mid - 1;
+            } else {
+                return nodes.get(node + 3 + 2 * mid);
+            }
+        }
+        return NO_NODE;
+    }
+
+    public WordStore words() {
+        return words;
+    }
+
+    /**
+     * Returns the number of guesses the tree needs for an answer.
+     *
+     * @param answer index of the answer in the word list
+     * @return the number of guesses, counting the one that solves it
+     * @throws IllegalArgumentException if the answer is not in the tree
+     */
+    public int depth(int answer) {
+        if (answer < 0 || answer >= words.size()) {
+            throw new IllegalArgumentException("Answer " + answer + " is not in the tree.");
+        }
+        long packed = words.packed(answer);
+        int allGreen = FeedbackCalculator.allGreen(words.length());
+        int node = ROOT;
+        for (int depth = 1; ; depth++) {
+            int code = FeedbackCalculator.computeFeedbackCode(packed, words.packed(guess(node)), words.length());
+            if (code == allGreen) {
+                return depth;
+            }
+            node = child(node, code);
+            if (node == NO_NODE) {
+                throw new IllegalArgumentException("Answer " + words.get(answer) + " is not in the tree.");
+            }
+        }
+    }
+
+    /**
+     * Returns the size of the flat tree.
+     *
+     * @return the number of ints holding the nodes
+     */
+    public int sizeInInts() {
+        return nodes.limit();
+    }
+
+    /**
+     * Builds the flat node array depth first, reserving each node's child table
+     * before its children are written and patching the offsets in afterwards.
+     */
+    private static final class Compiler {
+        private final EntropySolver solver;
+        private final WordStore words;
+        private final int length;
+        private final int allGreen;
+        private int[] nodes = new int[1024];
+        private int size;
+
+        Compiler(EntropySolver solver) {
+            this.solver = solver;
+            this.words = solver.words();
+            this.length = words.length();
+            this.allGreen = FeedbackCalculator.allGreen(length);
+        }
+
+        int compile(int[] candidates, int count) {
+            int guess = solver.bestGuess(candidates, count);
+            long[] keyed = new long[count];
+            for (int i = 0; i < count; i++) {
+                int code = solver.feedbackCode(candidates[i], guess);
+                keyed[i] = (long) code << 32 | candidates[i];
+            }
+            Arrays.sort(keyed);
+
+            int children = 0;
+            for (int i = 0; i < count; i++) {
+                int code = (int) (keyed[i] >>> 32);
+                if (code != allGreen && (i == 0 || code != (int) (keyed[i - 1] >>> 32))) {
+                    children++;
+                }
+            }
+            int node = reserve(2 + 2 * children);
+            nodes[node] = guess;
+            nodes[node + 1] = children;
+
+            int child = 0;
+            int[] group = new int[count];
+            for (int from = 0; from < count; ) {
+                int code = (int) (keyed[from] >>> 32);
+                int to = from;
+                while (to < count && (int) (keyed[to] >>> 32) == code) {
+                    group[to - from] = (int) keyed[to];
+                    to++;
+                }
+                if (code != allGreen) {
+                    if (to - from == count) {
+                        throw new IllegalStateException("Guess " + words.get(guess) + " does not split the candidates.");
+                    }
+                    int offset = compile(Arrays.copyOf(group, to - from), to - from);
+                    nodes[node + 2 + 2 * child] = code;
+                    nodes[node + 3 + 2 * child] = offset;
+                    child++;
+                }
+                from = to;
+            }
+            return node;
+        }
+
+        private int reserve(int ints) {
+            if (size + ints > nodes.length) {
+                nodes = Arrays.copyOf(nodes, Math.max(nodes.length * 2, size + ints));
+            }
+            int offset = size;
+            size += ints;
+            return offset;
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.wordle.solver;
+
+import com.wordle.utils.CandidateSet;
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.FeedbackMatrix;
+import com.wordle.utils.WordStore;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Picks the guess whose feedback partition of the remaining candidates carries the
+ * most expected information (Shannon entropy of the 3^length feedback buckets).
+ * Guesses are scored in parallel on a {@link ForkJoinPool}. For multi-board games the
+ * boards are independent, so a guess's information is the sum over the boards.
+ * <p>
+ * With a {@link FeedbackMatrix} over the word list, candidates given as word indices
+ * are scored by looking their feedback up instead of computing it.
+ */
+public class EntropySolver {
+    private static final int LEAF_SIZE = 64;
+
+    private final WordStore words;
+    private final long[] packedWords;
+    private final int wordLength;
+    private final int patternCount;
+    private final ForkJoinPool pool;
+    private final FeedbackMatrix matrix;
+
+    /**
+     * Creates a solver that may guess any word of the list, using the common pool.
+     *
+     * @param words the allowed guesses
+     */
+    public EntropySolver(List<String> words) {
+        this(words, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a solver that may guess any word of the list.
+     *
+     * @param words the allowed guesses
+     * @param pool the pool guesses are scored on
+     */
+    public EntropySolver(List<String> words, ForkJoinPool pool) {
+        this(words, pool, null);
+    }
+
+    /**
+     * Creates a solver that looks feedback up in a precomputed matrix.
+     *
+     * @param words the allowed guesses
+     * @param pool the pool guesses are scored on
+     * @param matrix a matrix with the word list as both answers and guesses, or null
+     * @throws IllegalArgumentException if the matrix was built for another word list
+     */
+    public EntropySolver(List<String> words, ForkJoinPool pool, FeedbackMatrix matrix) {
+        if (words == null || words.isEmpty()) {
+            throw new IllegalArgumentException("Solver needs at least one allowed guess.");
+        }
+        this.words = WordStore.of(words);
+        this.packedWords = new long[words.size()];
+        for (int i = 0; i < packedWords.length; i++) {
+            packedWords[i] = this.words.packed(i);
+        }
+        this.wordLength = this.words.length();
+        this.patternCount = FeedbackCalculator.patternCount(wordLength);
+        this.pool = pool;
+        if (matrix != null && !matrix.covers(this.words)) {
+            throw new IllegalArgumentException("Feedback matrix was built for another word list.");
+        }
+        this.matrix = matrix;
+    }
+
+    /**
+     * Returns the best guess for the remaining candidate answers.
+     *
+     * @param candidates the answers still consistent with all feedback so far
+     * @return the best guess
+     */
+    public String bestGuess(List<String> candidates) {
+        long[] packed = new long[candidates.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = words.encode(candidates.get(i));
+        }
+        return words.get(bestGuess(packed, packed.length));
+    }
+
+    /**
+     * Returns the index of the best guess for candidates given as indices into the word list.
+     * With one or two candidates left the first candidate is returned without scoring.
+     *
+     * @param candidates word indices of the remaining candidates
+     * @param count number of leading entries of {@code candidates} in use
+     * @return the index of the best guess in the word list
+     */
+    public int bestGuess(int[] candidates, int count) {
+        if (count == 1 || count == 2) {
+            // a candidate already splits one or two answers perfectly
+            return candidates[0];
+        }
+        if (matrix != null) {
+            return pool.invoke(new ScoreTask(candidates, count, 0, packedWords.length)).index;
+        }
+        long[] packed = new long[count];
+        for (int i = 0; i < count; i++) {
+            packed[i] = packedWords[candidates[i]];
+        }
+        return bestGuess(packed, count);
+    }
+
+    /**
+     * Returns the index of the best guess for packed candidates. Ties in entropy go to
+     * guesses that are themselves candidates, then to the lowest index.
+     *
+     * @param packedCandidates the remaining candidates, packed by {@link FeedbackCalculator#pack(String, int)}
+     * @param count number of leading entries of {@code packedCandidates} in use
+     * @return the index of the best guess in the word list
+     */
+    public int bestGuess(long[] packedCandidates, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("No candidates left to guess from.");
+        }
+        return pool.invoke(new ScoreTask(new long[][] {packedCandidates}, new int[] {count}, 0, packedWords.length)).index;
+    }
+
+    /**
+     * Returns the index of the best guess for a multi-board game, given the candidates
+     * of each unsolved board. If some board is down to one candidate, that candidate is
+     * guessed, since it solves a board outright.
+     *
+     * @param boards the candidate sets of the unsolved boards, over the solver's word list
+     * @return the index of the best guess in the word list
+     */
+    public int bestCombinedGuess(List<CandidateSet> boards) {
+        long[][] packed = new long[boards.size()][];
+        int[] counts = new int[boards.size()];
+        int[] indices = new int[0];
+        for (int b = 0; b < packed.length; b++) {
+            CandidateSet board = boards.get(b);
+            if (indices.length < board.count()) {
+                indices = new int[board.count()];
+            }
+            counts[b] = board.indices(indices);
+            packed[b] = new long[counts[b]];
+            for (int i = 0; i < counts[b]; i++) {
+                packed[b][i] = packedWords[indices[i]];
+            }
+        }
+        return bestCombinedGuess(packed, counts);
+    }
+
+    /**
+     * Returns the index of the best guess for a multi-board game with packed candidates,
+     * maximizing the total expected information over all boards.
+     *
+     * @param packedBoards the remaining candidates of each unsolved board, packed
+     * @param counts number of leading entries in use per board
+     * @return the index of the best guess in the word list
+     * @throws IllegalArgumentException if there are no boards, a board has no candidates,
+     *                                  or a board's only candidate is not in the word list
+     * @see #bestCombinedGuess(List)
+     */
+    public int bestCombinedGuess(long[][] packedBoards, int[] counts) {
+        if (packedBoards.length == 0) {
+            throw new IllegalArgumentException("No boards left to guess for.");
+        }
+        for (int b = 0; b < packedBoards.length; b++) {
+            if (counts[b] <= 0) {
+                throw new IllegalArgumentException("No candidates left to guess from on board " + b + ".");
+            }
+            if (counts[b] == 1) {
+                int index = words.indexOf(packedBoards[b][0]);
+                if (index < 0) {
+                    throw new IllegalArgumentException("Last candidate on board " + b + " is not in the word list.");
+                }
+                return index;
+            }
+        }
+        return pool.invoke(new ScoreTask(packedBoards, counts, 0, packedWords.length)).index;
+    }
+
+    /**
+     * Returns the expected information, in bits, of guessing a word against the candidates.
+     *
+     * @param guessIndex index of the guess in the word list
+     * @param packedCandidates the remaining candidates, packed
+     * @param count number of leading entries of {@code packedCandidates} in use
+     * @return the entropy of the feedback partition
+     */
+    public double expectedInformation(int guessIndex, long[] packedCandidates, int count) {
+        int[] buckets = new int[patternCount];
+        fillBuckets(packedWords[guessIndex], packedCandidates, count, buckets);
+        return entropy(buckets, count);
+    }
+
+    /**
+     * Returns the feedback a guess gets against an answer, from the matrix if there is one.
+     *
+     * @param answerIndex index of the answer in the word list
+     * @param guessIndex index of the guess in the word list
+     * @return the packed feedback code
+     */
+    public int feedbackCode(int answerIndex, int guessIndex) {
+        if (matrix != null) {
+            return matrix.code(answerIndex, guessIndex);
+        }
+        return FeedbackCalculator.computeFeedbackCode(packedWords[answerIndex], packedWords[guessIndex], wordLength);
+    }
+
+    public WordStore words() {
+        return words;
+    }
+
+    private void fillBuckets(int guess, int[] candidates, int count, int[] buckets) {
+        for (int i = 0; i < count; i++) {
+            buckets[matrix.code(candidates[i], guess)]++;
+        }
+    }
+
+    private void fillBuckets(long guess, long[] candidates, int count, int[] buckets) {
+        for (int i = 0; i < count; i++) {
+            buckets[FeedbackCalculator.computeFeedbackCode(candidates[i], guess, wordLength)]++;
+        }
+    }
+
+    /**
+     * Entropy of a partition: log2(n) - (1/n) * sum(c * log2(c)). Clears the buckets.
+     */
+    private static double entropy(int[] buckets, int count) {
+        double sum = 0;
+        for (int b = 0; b < buckets.length; b++) {
+            int c = buckets[b];
+            if (c > 1) {
+                sum += c * Math.log(c);
+            }
+            buckets[b] = 0;
+        }
+        return (Math.log(count) - sum / count) / Math.log(2);
+    }
+
+    private record Choice(int index, double entropy, boolean candidate) {
+        boolean beats(Choice other) {
+            if (entropy != other.entropy) {
+                return entropy > other.entropy;
+            }
+            if (candidate != other.candidate) {
+                return candidate;
+            }
+            return index < other.index;
+        }
+    }
+
+    private final class ScoreTask extends RecursiveTask<Choice> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[][] boards;
+        private final int[] counts;
+        private final int[] indices;
+        private final int from;
+        private final int to;
+
+        ScoreTask(long[][] boards, int[] counts, int from, int to) {
+            this(boards, counts, null, from, to);
+        }
+
+        /**
+         * Scores a single board whose candidates are word indices, through the matrix.
+         */
+        ScoreTask(int[] indices, int count, int from, int to) {
+            this(null, new int[] {count}, indices, from, to);
+        }
+
+        private ScoreTask(long[][] boards, int[] counts, int[] indices, int from, int to) {
+            this.boards = boards;
+            this.counts = counts;
+            this.indices = indices;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Choice compute() {
+            if (to - from <= LEAF_SIZE) {
+                return scoreRange();
+            }
+            int mid = (from + to) >>> 1;
+            ScoreTask left = new ScoreTask(boards, counts, indices, from, mid);
+            left.fork();
+            Choice right = new ScoreTask(boards, counts, indices, mid, to).compute();
+            Choice best = left.join();
+            return right.beats(best) ? right : best;
+        }
+
+        private Choice scoreRange() {
+            int[] buckets = new int[patternCount];
+            Choice best = null;
+            for (int g = from; g < to; g++) {
+                double information = 0;
+                boolean candidate = false;
+                if (indices != null) {
+                    fillBuckets(g, indices, counts[0], buckets);
+                    candidate = buckets[patternCount - 1] > 0;
+                    information = entropy(buckets, counts[0]);
+                }
+                for (int b = 0; boards != null && b < boards.length; b++) {
+                    fillBuckets(packedWords[g], boards[b], counts[b], buckets);
+                    candidate |= buckets[patternCount - 1] > 0;
+                    information += entropy(buckets, counts[b]);
+                }
+                Choice choice = new Choice(g, information, candidate);
+                if (best == null || choice.beats(best)) {
+                    best = choice;
+                }
+            }
+            return best;
+        }
+    }
+}
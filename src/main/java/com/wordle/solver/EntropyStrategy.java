@@ -0,0 +1,35 @@
+package com.wordle.solver;
+
+import com.wordle.utils.CandidateSet;
+
+/**
+ * Strategy that plays the {@link EntropySolver}'s best guess. The opening guess is
+ * the same for every game, so it is computed once up front.
+ */
+public class EntropyStrategy implements GuessStrategy {
+    private final EntropySolver solver;
+    private final int openingGuess;
+
+    /**
+     * Creates the strategy. The solver must be built over the same word list as the
+     * candidate sets it will be asked about.
+     *
+     * @param solver the solver
+     * @param initialCandidates the full candidate set, used to compute the opening guess
+     */
+    public EntropyStrategy(EntropySolver solver, CandidateSet initialCandidates) {
+        this.solver = solver;
+        this.openingGuess = bestGuess(initialCandidates);
+    }
+
+    @Override
+    public int nextGuess(CandidateSet candidates, int attempt) {
+        return attempt == 1 ? openingGuess : bestGuess(candidates);
+    }
+
+    private int bestGuess(CandidateSet candidates) {
+        int[] indices = new int[candidates.count()];
+        int count = candidates.indices(indices);
+        return solver.bestGuess(indices, count);
+    }
+}
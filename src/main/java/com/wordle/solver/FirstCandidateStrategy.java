@@ -0,0 +1,13 @@
+package com.wordle.solver;
+
+import com.wordle.utils.CandidateSet;
+
+/**
+ * Baseline strategy that always guesses the first remaining candidate.
+ */
+public class FirstCandidateStrategy implements GuessStrategy {
+    @Override
+    public int nextGuess(CandidateSet candidates, int attempt) {
+        return candidates.first();
+    }
+}
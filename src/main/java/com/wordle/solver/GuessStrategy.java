@@ -0,0 +1,19 @@
+package com.wordle.solver;
+
+import com.wordle.utils.CandidateSet;
+
+/**
+ * Chooses the next guess of a game from the candidates still possible.
+ * Implementations are shared by concurrently running games and must be thread-safe;
+ * all per-game state lives in the candidate set.
+ */
+public interface GuessStrategy {
+    /**
+     * Picks the next guess.
+     *
+     * @param candidates the answers still consistent with the feedback so far
+     * @param attempt the 1-based attempt number
+     * @return index of the guess in the word list of the candidate set's index
+     */
+    int nextGuess(CandidateSet candidates, int attempt);
+}
@@ -0,0 +1,273 @@
+package com.wordle.solver;
+
+import com.wordle.utils.CandidateSet;
+import com.wordle.utils.WordStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of solver answers keyed by game state, so positions that many games
+ * reach, above all the first few guesses, are solved once. A state is a 64-bit hash of
+ * the guesses played and the feedback each got, built with {@link #next(long, long, int)}
+ * from {@link #ROOT}; it maps to the solver's best guess and the number of candidates
+ * left. Entries are spread over segments, each a small LRU map behind its own lock, so
+ * concurrent games rarely wait on each other and the least recently used positions are
+ * evicted first. The solver runs outside any lock; two games missing the same state at
+ * once both compute it.
+ * <p>
+ * A book can be saved and loaded again at startup, so the expensive opening positions
+ * are warm from the first game.
+ */
+public class OpeningBook {
+    /** The state of a game before its first guess. */
+    public static final long ROOT = 0x6A09E667F3BCC909L;
+
+    private static final int SEGMENTS = 16;
+    private static final int MAGIC = 0x574F424B; // "WOBK"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 28;
+    private static final int ENTRY_SIZE = Long.BYTES + 2 * Integer.BYTES;
+
+    private final EntropySolver solver;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates an empty book.
+     *
+     * @param solver the solver asked on a miss
+     * @param capacity the most positions kept
+     */
+    public OpeningBook(EntropySolver solver, int capacity) {
+        if (capacity < SEGMENTS) {
+            throw new IllegalArgumentException("Capacity must be at least " + SEGMENTS + ": " + capacity);
+        }
+        this.solver = solver;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(capacity / SEGMENTS + (i < capacity % SEGMENTS ? 1 : 0));
+        }
+    }
+
+    /**
+     * Returns the state after one more guess.
+     *
+     * @param state the state before the guess
+     * @param packedGuess the packed guess
+     * @param code the packed feedback code it got
+     * @return the new state
+     */
+    public static long next(long state, long packedGuess, int code) {
+        return mix(state * 0x9E3779B97F4A7C15L + packedGuess) ^ mix(code + 0x632BE59BD9B4E019L);
+    }
+
+    /**
+     * Suggests the best next guess for a position, asking the solver only if the
+     * position is not in the book.
+     *
+     * @param state the game state
+     * @param candidates supplies the candidates still possible; only called on a miss
+     * @return the best guess and how many candidates are left
+     */
+    public Suggestion suggest(long state, Supplier<CandidateSet> candidates) {
+        Segment segment = segmentOf(state);
+        Suggestion cached = segment.get(state);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        CandidateSet set = candidates.get();
+        int[] indices = new int[set.count()];
+        int count = set.indices(indices);
+        Suggestion computed = new Suggestion(solver.bestGuess(indices, count), count);
+        segment.put(state, computed);
+        return computed;
+    }
+
+    public WordStore words() {
+        return solver.words();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Formats the cache counters on one line.
+     *
+     * @return the summary
+     */
+    public String format() {
+        long hits = hits();
+        long lookups = hits + misses();
+        return String.format("Opening book: %d positions, hits=%d misses=%d (%.1f%% hit rate) evictions=%d",
+                size(), hits, lookups - hits, lookups == 0 ? 0 : 100.0 * hits / lookups, evictions());
+    }
+
+    /**
+     * Adds the positions of a book file written by {@link #save(Path)} for the same word list.
+     *
+     * @param file the book file
+     * @return the number of positions loaded, 0 if the file is missing, of another
+     *         version or written for another word list
+     */
+    public int load(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return 0;
+        }
+        WordStore words = words();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || (size - HEADER_SIZE) % ENTRY_SIZE != 0) {
+                return 0;
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int entries = (int) ((size - HEADER_SIZE) / ENTRY_SIZE);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+                    || buffer.getLong() != words.fingerprint()
+                    || buffer.getInt() != words.length()
+                    || buffer.getInt() != words.size()
+                    || buffer.getInt() != entries) {
+                return 0;
+            }
+            for (int i = 0; i < entries; i++) {
+                long state = buffer.getLong();
+                int guess = buffer.getInt();
+                int remaining = buffer.getInt();
+                if (guess < 0 || guess >= words.size() || remaining < 0) {
+                    throw new IllegalStateException("Corrupt opening book " + file + " at entry " + i);
+                }
+                segmentOf(state).put(state, new Suggestion(guess, remaining));
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading opening book from " + file, e);
+        }
+    }
+
+    /**
+     * Writes every position to a file, each segment's least recently used first, so
+     * loading the file into a smaller book keeps the most recent positions. The file is
+     * written next to the target and moved into place.
+     *
+     * @param file the book file
+     */
+    public void save(Path file) {
+        Map<Long, Suggestion> entries = new LinkedHashMap<>();
+        for (Segment segment : segments) {
+            segment.copyTo(entries);
+        }
+        WordStore words = words();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + entries.size() * ENTRY_SIZE).order(ByteOrder.BIG_ENDIAN)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(words.fingerprint())
+                .putInt(words.length())
+                .putInt(words.size())
+                .putInt(entries.size());
+        entries.forEach((state, suggestion) -> buffer.putLong(state)
+                .putInt(suggestion.guess())
+                .putInt(suggestion.remaining()));
+        buffer.flip();
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing opening book to " + file, e);
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing opening book to " + file, e);
+        }
+    }
+
+    private Segment segmentOf(long state) {
+        return segments[(int) (state >>> 60)];
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * The solver's answer for a position.
+     *
+     * @param guess index of the best next guess in the word list
+     * @param remaining the number of candidates still possible
+     */
+    public record Suggestion(int guess, int remaining) {
+    }
+
+    /**
+     * One lock's share of the book: an access-ordered map that drops its eldest entry
+     * once it is full.
+     */
+    private final class Segment {
+        private final Map<Long, Suggestion> entries;
+
+        Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Suggestion> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized Suggestion get(long state) {
+            return entries.get(state);
+        }
+
+        synchronized void put(long state, Suggestion suggestion) {
+            entries.put(state, suggestion);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized void copyTo(Map<Long, Suggestion> out) {
+            out.putAll(entries);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.wordle.utils;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Chooses the answer of each new game. A picker is not thread-safe and is not meant to
+ * be shared: every worker or session takes its own with {@link #split()}, which is
+ * cheap and never blocks, so parallel games neither contend on one generator nor
+ * depend on each other's order. Pickers built from the same seed or date, and split in
+ * the same order, pick the same answers.
+ */
+public interface AnswerPicker {
+
+    /**
+     * Returns a picker seeded from the system, different on every run.
+     *
+     * @return the picker
+     */
+    static AnswerPicker random() {
+        return new Seeded(new SplittableRandom());
+    }
+
+    /**
+     * Returns a picker whose answers are fixed by a seed.
+     *
+     * @param seed the seed
+     * @return the picker
+     */
+    static AnswerPicker seeded(long seed) {
+        return new Seeded(new SplittableRandom(seed));
+    }
+
+    /**
+     * Returns a picker whose first answer is the word of the day: the same for every
+     * player on that date. Later answers follow from the date too. Nothing is shared
+     * between pickers; each only counts the games it has picked for.
+     *
+     * @param date the date
+     * @return the picker
+     */
+    static AnswerPicker daily(LocalDate date) {
+        return new Daily(date.toEpochDay(), 0);
+    }
+
+    /**
+     * Picks the answer of the next game.
+     *
+     * @param size the number of words to pick from
+     * @return the index of the answer, 0 (inclusive) to {@code size} (exclusive)
+     */
+    int next(int size);
+
+    /**
+     * Returns a new picker for another worker or session, independent of this one.
+     *
+     * @return the new picker
+     */
+    AnswerPicker split();
+
+    /**
+     * Picks from a {@link SplittableRandom}; splits fork the generator.
+     */
+    final class Seeded implements AnswerPicker {
+        private final SplittableRandom random;
+
+        private Seeded(SplittableRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        public int next(int size) {
+            return random.nextInt(size);
+        }
+
+        @Override
+        public AnswerPicker split() {
+            return new Seeded(random.split());
+        }
+    }
+
+    /**
+     * Hashes the date and the game number; splits start again at the word of the day.
+     */
+    final class Daily implements AnswerPicker {
+        private final long day;
+        private long game;
+
+        private Daily(long day, long game) {
+            this.day = day;
+            this.game = game;
+        }
+
+        @Override
+        public int next(int size) {
+            if (size <= 0) {
+                throw new IllegalArgumentException("size must be positive: " + size);
+            }
+            return (int) Long.remainderUnsigned(mix(day * 0x9E3779B97F4A7C15L + game++), size);
+        }
+
+        @Override
+        public AnswerPicker split() {
+            return new Daily(day, 0);
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -3,17 +3,44 @@ package com.wordle.utils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.stream.Stream;
+import java.util.Arrays;
 
 public class BannerPrinter {
     private BannerPrinter(){
         throw new IllegalStateException("Utility class");
     }
+
+    /**
+     * Prints a banner file in one write, ending it with a line break. The file is
+     * read whole rather than streamed line by line, which keeps stream and lambda
+     * classes off the startup path and flushes the console once.
+     *
+     * @param path the banner file
+     */
     public static void printBanner(Path path) {
-        try (Stream<String> lines = Files.lines(path)) {
-            lines.forEach(System.out::println);
+        byte[] banner = readBanner(path);
+        System.out.write(banner, 0, banner.length);
+        System.out.flush();
+    }
+
+    /**
+     * Reads a banner file, adding a final line break if it has none.
+     *
+     * @param path the banner file
+     * @return the banner bytes, empty if the file could not be read
+     */
+    public static byte[] readBanner(Path path) {
+        try {
+            byte[] banner = Files.readAllBytes(path);
+            if (banner.length > 0 && banner[banner.length - 1] != '\n') {
+                byte[] terminated = Arrays.copyOf(banner, banner.length + 1);
+                terminated[banner.length] = '\n';
+                return terminated;
+            }
+            return banner;
         } catch (IOException e) {
             System.err.println("Could not load banner: " + e.getMessage());
+            return new byte[0];
         }
     }
 }
@@ -0,0 +1,111 @@
+package com.wordle.utils;
+
+import com.wordle.Hint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Live set of candidate answers over a {@link ConstraintIndex}, narrowed in place
+ * as feedback arrives. Not thread-safe; each game or solver thread keeps its own.
+ */
+public class CandidateSet {
+    private final ConstraintIndex index;
+    private final long[] bits;
+
+    CandidateSet(ConstraintIndex index, long[] bits) {
+        this.index = index;
+        this.bits = bits;
+    }
+
+    /**
+     * Removes every candidate that would not have produced this feedback.
+     *
+     * @param guess the guess
+     * @param feedback the feedback received for it
+     */
+    public void apply(String guess, List<Hint> feedback) {
+        apply(FeedbackCalculator.encode(guess, index.length()), FeedbackCalculator.encodeHints(feedback));
+    }
+
+    /**
+     * Removes every candidate that would not have produced this packed feedback code.
+     *
+     * @param guess the guess, encoded by {@link FeedbackCalculator#encode(String, int)}
+     * @param code the packed feedback code received for it
+     */
+    public void apply(byte[] guess, int code) {
+        index.apply(bits, guess, code);
+    }
+
+    /**
+     * Returns the number of remaining candidates.
+     *
+     * @return the candidate count
+     */
+    public int count() {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the lowest word index still in the set.
+     *
+     * @return the first candidate, or -1 if the set is empty
+     */
+    public int first() {
+        for (int slot = 0; slot < bits.length; slot++) {
+            if (bits[slot] != 0) {
+                return (slot << 6) + Long.numberOfTrailingZeros(bits[slot]);
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int wordIndex) {
+        return (bits[wordIndex >>> 6] & (1L << wordIndex)) != 0;
+    }
+
+    /**
+     * Writes the word indices of the remaining candidates, in ascending order.
+     *
+     * @param out array of at least {@link #count()} slots
+     * @return the number of indices written
+     */
+    public int indices(int[] out) {
+        int n = 0;
+        for (int slot = 0; slot < bits.length; slot++) {
+            for (long word = bits[slot]; word != 0; word &= word - 1) {
+                out[n++] = (slot << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Returns the remaining candidates as words.
+     *
+     * @return the candidate words
+     */
+    public List<String> words() {
+        int[] indices = new int[count()];
+        int n = indices(indices);
+        List<String> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            result.add(index.words().get(indices[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an independent copy, for example to explore a branch of a solver.
+     *
+     * @return the copy
+     */
+    public CandidateSet copy() {
+        return new CandidateSet(index, bits.clone());
+    }
+}
@@ -0,0 +1,142 @@
+package com.wordle.utils;
+
+import com.wordle.Hint;
+
+import java.util.List;
+
+/**
+ * Bitset index over a word list for narrowing candidate answers by feedback.
+ * Bit {@code w} of every set stands for word {@code w} of the list. The index keeps
+ * one set per (position, letter) and one per (letter, minimum count), so applying
+ * a guess's feedback is a handful of word-wide AND / AND NOT operations.
+ */
+public class ConstraintIndex {
+    private final WordStore words;
+    private final int length;
+    private final int wordsLength;
+    private final long[][] letterAt;
+    private final long[][] atLeast;
+
+    /**
+     * Builds the index over a word list. A {@link WordStore} keeps its word length;
+     * any other list must hold 5-letter words.
+     *
+     * @param words the word list, indexed by position
+     */
+    public ConstraintIndex(List<String> words) {
+        this.words = WordStore.of(words);
+        this.length = this.words.length();
+        this.wordsLength = (words.size() + 63) >>> 6;
+        int len = length;
+        this.letterAt = new long[len * FeedbackCalculator.ALPHABET_SIZE][wordsLength];
+        this.atLeast = new long[FeedbackCalculator.ALPHABET_SIZE * (len + 1)][wordsLength];
+
+        int[] counts = new int[FeedbackCalculator.ALPHABET_SIZE];
+        byte[] letters = new byte[len];
+        for (int w = 0; w < words.size(); w++) {
+            FeedbackCalculator.unpackLetters(this.words.packed(w), letters);
+            int slot = w >>> 6;
+            long bit = 1L << w;
+            for (int i = 0; i < len; i++) {
+                letterAt[i * FeedbackCalculator.ALPHABET_SIZE + letters[i]][slot] |= bit;
+                atLeast[letters[i] * (len + 1) + ++counts[letters[i]]][slot] |= bit;
+            }
+            for (byte letter : letters) {
+                counts[letter] = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns a live candidate set containing every word of the list.
+     *
+     * @return a new candidate set
+     */
+    public CandidateSet newCandidateSet() {
+        long[] bits = new long[wordsLength];
+        for (int w = 0; w < words.size(); w++) {
+            bits[w >>> 6] |= 1L << w;
+        }
+        return new CandidateSet(this, bits);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public WordStore words() {
+        return words;
+    }
+
+    public int size() {
+        return words.size();
+    }
+
+    /**
+     * Narrows a candidate bitset in place to the words that would produce
+     * {@code code} for {@code guess}.
+     */
+    void apply(long[] candidates, byte[] guess, int code) {
+        int len = length;
+        for (int i = 0; i < len; i++) {
+            long[] set = letterAt[i * FeedbackCalculator.ALPHABET_SIZE + guess[i]];
+            if (FeedbackCalculator.hintAt(code, i) == Hint.GREEN) {
+                and(candidates, set);
+            } else {
+                andNot(candidates, set);
+            }
+        }
+        for (int i = 0; i < len; i++) {
+            if (firstOccurrence(guess, i)) {
+                applyLetterCount(candidates, guess, code, i);
+            }
+        }
+    }
+
+    /**
+     * A letter marked ABSENT anywhere in the guess pins its count to the number of
+     * GREEN and YELLOW copies; otherwise that number is only a lower bound.
+     */
+    private void applyLetterCount(long[] candidates, byte[] guess, int code, int first) {
+        int len = length;
+        byte letter = guess[first];
+        int present = 0;
+        boolean absent = false;
+        for (int i = first; i < len; i++) {
+            if (guess[i] == letter) {
+                if (FeedbackCalculator.hintAt(code, i) == Hint.ABSENT) {
+                    absent = true;
+                } else {
+                    present++;
+                }
+            }
+        }
+        if (present > 0) {
+            and(candidates, atLeast[letter * (len + 1) + present]);
+        }
+        if (absent) {
+            andNot(candidates, atLeast[letter * (len + 1) + present + 1]);
+        }
+    }
+
+    private static boolean firstOccurrence(byte[] guess, int i) {
+        for (int j = 0; j < i; j++) {
+            if (guess[j] == guess[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void and(long[] target, long[] set) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] &= set[i];
+        }
+    }
+
+    private static void andNot(long[] target, long[] set) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] &= ~set[i];
+        }
+    }
+}
@@ -3,18 +3,36 @@ package com.wordle.utils;
 import com.wordle.Hint;
 import com.wordle.exception.InvalidWordLengthException;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 /**
  * Core logic for computing feedback on Wordle guesses.
  */
 public class FeedbackCalculator {
+    /** Default word length; the methods without a length parameter use it. */
+    public static final int WORD_LENGTH = 5;
+    public static final int MIN_WORD_LENGTH = 4;
+    public static final int MAX_WORD_LENGTH = 8;
+    public static final int ALPHABET_SIZE = 26;
+    /** Number of distinct packed feedback codes, 3^WORD_LENGTH. */
+    public static final int PATTERN_COUNT = 243;
+    /** Packed feedback code of a fully solved guess. */
+    public static final int ALL_GREEN = PATTERN_COUNT - 1;
+
+    /** Bits each letter takes in a packed word, see {@link #pack(String, int)}. */
+    public static final int BITS_PER_LETTER = 5;
+    /** Mask of one letter of a packed word, once shifted down to the lowest bits. */
+    public static final int LETTER_MASK = (1 << BITS_PER_LETTER) - 1;
+    private static final int[] POW3 = {1, 3, 9, 27, 81, 243, 729, 2187, 6561};
+    private static final List<List<Hint>> DECODED = decodeAllPatterns();
+
     private FeedbackCalculator() {
         throw new IllegalStateException("Utility class");
     }
     /**
      * Computes feedback for a guess against the answer.
-     * Uses a two-pass algorithm to handle duplicate letters correctly.
+     * Thin decoder over {@link #computeFeedbackCode(long, long)}.
      *
      * @param answer the correct word
      * @param guess the player's guess
@@ -22,41 +40,24 @@ public class FeedbackCalculator {
      */
     public static List<Hint> computeFeedback(String answer, String guess) {
         validateInputAnswerAndGuess(answer, guess);
+        return decode(computeFeedbackCode(pack(answer), pack(guess)));
+    }
 
-        answer = answer.toUpperCase();
-        guess = guess.toUpperCase();
-
-        Hint[] hints = new Hint[5];
-        Map<Character, Integer> freq = new HashMap<>();
-
-        for (int i = 0; i < 5; i++) {
-            char a = answer.charAt(i);
-            char g = guess.charAt(i);
-
-            if (g == a) {
-                hints[i] = Hint.GREEN;
-            } else {
-                hints[i] = null;
-                freq.merge(a, 1, Integer::sum);
-            }
-        }
-
-        for (int i = 0; i < 5; i++) {
-            if (hints[i] != null) continue;
-
-            char g = guess.charAt(i);
-            int count = freq.getOrDefault(g, 0);
-
-            if (count > 0) {
-                hints[i] = Hint.YELLOW;
-                freq.merge(g,-1, Integer::sum);
-            } else {
-                hints[i] = Hint.ABSENT;
-            }
+    /**
+     * Computes feedback for a guess against the answer for any supported word length.
+     *
+     * @param answer the correct word
+     * @param guess the player's guess
+     * @param length the word length both words must have
+     * @return a list of hints, one for each letter in the guess
+     */
+    public static List<Hint> computeFeedback(String answer, String guess, int length) {
+        if (length == WORD_LENGTH) {
+            return computeFeedback(answer, guess);
         }
-
-        return Arrays.asList(hints);
+        return decode(computeFeedbackCode(pack(answer, length), pack(guess, length), length), length);
     }
+
     /**
      * Computes feedback for a guess against the answer.
      * Uses a one-pass algorithm to give feedback after setting position vectors in another pass.
@@ -95,6 +96,350 @@ public class FeedbackCalculator {
 
         return Arrays.asList(hints);
     }
+
+    /**
+     * Computes the packed feedback code for words encoded by {@link #encode(String)}.
+     * Uses a two-pass algorithm over a caller-supplied 26-slot counter array, so
+     * repeated calls allocate nothing.
+     *
+     * @param answer the encoded answer, letters 0..25
+     * @param guess the encoded guess, letters 0..25
+     * @param letterCounts scratch array of at least 26 slots, must be all zero; left all zero on return
+     * @return the base-3 feedback code (0..242), digit i holding the hint for position i
+     */
+    public static int computeFeedbackCode(byte[] answer, byte[] guess, int[] letterCounts) {
+        int code = 0;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if (answer[i] == guess[i]) {
+                code += 2 * POW3[i];
+            } else {
+                letterCounts[answer[i]]++;
+            }
+        }
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if (answer[i] != guess[i] && letterCounts[guess[i]] > 0) {
+                letterCounts[guess[i]]--;
+                code += POW3[i];
+            }
+        }
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            letterCounts[answer[i]] = 0;
+        }
+        return code;
+    }
+
+    /**
+     * Computes the packed feedback code for words packed by {@link #pack(String)}.
+     * Instead of a counter array it tracks unmatched answer positions in a bit mask,
+     * so it needs neither scratch space nor heap allocation.
+     *
+     * @param answer the packed answer
+     * @param guess the packed guess
+     * @return the base-3 feedback code (0..242), digit i holding the hint for position i
+     */
+    public static int computeFeedbackCode(long answer, long guess) {
+        return feedbackCode(answer, guess, WORD_LENGTH);
+    }
+
+    /**
+     * Computes the packed feedback code for words of any supported length packed by
+     * {@link #pack(String, int)}. Each length dispatches to its own call of the kernel
+     * with a constant length, so the JIT can unroll it like the 5-letter path.
+     *
+     * @param answer the packed answer
+     * @param guess the packed guess
+     * @param length the word length (4..8)
+     * @return the base-3 feedback code (0..3^length - 1), digit i holding the hint for position i
+     * @throws InvalidWordLengthException if the length is not supported
+     */
+    public static int computeFeedbackCode(long answer, long guess, int length) {
+        return switch (length) {
+            case 4 -> feedbackCode(answer, guess, 4);
+            case 5 -> feedbackCode(answer, guess, 5);
+            case 6 -> feedbackCode(answer, guess, 6);
+            case 7 -> feedbackCode(answer, guess, 7);
+            case 8 -> feedbackCode(answer, guess, 8);
+            default -> throw unsupportedLength(length);
+        };
+    }
+
+    /**
+     * Returns the number of distinct feedback codes for a word length, 3^length.
+     *
+     * @param length the word length (4..8)
+     * @return the pattern count
+     */
+    public static int patternCount(int length) {
+        checkLength(length);
+        return POW3[length];
+    }
+
+    /**
+     * Returns the feedback code of a fully solved guess for a word length.
+     *
+     * @param length the word length (4..8)
+     * @return the all-green code
+     */
+    public static int allGreen(int length) {
+        return patternCount(length) - 1;
+    }
+
+    /**
+     * Checks that a word length is supported.
+     *
+     * @param length the word length
+     * @throws InvalidWordLengthException if it is not within 4..8
+     */
+    public static void checkLength(int length) {
+        if (length < MIN_WORD_LENGTH || length > MAX_WORD_LENGTH) {
+            throw unsupportedLength(length);
+        }
+    }
+
+    private static int feedbackCode(long answer, long guess, int length) {
+        int code = 0;
+        int unmatched = 0;
+        for (int i = 0; i < length; i++) {
+            int shift = i * BITS_PER_LETTER;
+            if (((answer >>> shift) & LETTER_MASK) == ((guess >>> shift) & LETTER_MASK)) {
+                code += 2 * POW3[i];
+            } else {
+                unmatched |= 1 << i;
+            }
+        }
+        int open = unmatched;
+        while (open != 0) {
+            int i = Integer.numberOfTrailingZeros(open);
+            open &= open - 1;
+            long g = (guess >>> (i * BITS_PER_LETTER)) & LETTER_MASK;
+            for (int rest = unmatched; rest != 0; rest &= rest - 1) {
+                int j = Integer.numberOfTrailingZeros(rest);
+                if (((answer >>> (j * BITS_PER_LETTER)) & LETTER_MASK) == g) {
+                    unmatched &= ~(1 << j);
+                    code += POW3[i];
+                    break;
+                }
+            }
+        }
+        return code;
+    }
+
+    /**
+     * Encodes a word as one byte per letter, 'A' = 0 through 'Z' = 25, ignoring case.
+     *
+     * @param word the word to encode
+     * @return the encoded letters
+     * @throws IllegalArgumentException if the word is null or contains a non-letter
+     * @throws InvalidWordLengthException if the word length is not 5
+     */
+    public static byte[] encode(String word) {
+        return encode(word, WORD_LENGTH);
+    }
+
+    /**
+     * Encodes a word of the given length as one byte per letter, ignoring case.
+     *
+     * @param word the word to encode
+     * @param length the expected word length
+     * @return the encoded letters
+     * @throws IllegalArgumentException if the word is null or contains a non-letter
+     * @throws InvalidWordLengthException if the word does not have the expected length
+     */
+    public static byte[] encode(String word, int length) {
+        validateWord(word, length);
+        byte[] letters = new byte[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = (byte) letterIndex(word.charAt(i));
+        }
+        return letters;
+    }
+
+    /**
+     * Packs a word into a long, 5 bits per letter with position 0 in the lowest bits.
+     *
+     * @param word the word to pack
+     * @return the packed word
+     * @throws IllegalArgumentException if the word is null or contains a non-letter
+     * @throws InvalidWordLengthException if the word length is not 5
+     */
+    public static long pack(String word) {
+        return pack(word, WORD_LENGTH);
+    }
+
+    /**
+     * Packs a word of the given length into a long, 5 bits per letter.
+     *
+     * @param word the word to pack
+     * @param length the expected word length
+     * @return the packed word
+     * @throws IllegalArgumentException if the word is null or contains a non-letter
+     * @throws InvalidWordLengthException if the word does not have the expected length
+     */
+    public static long pack(String word, int length) {
+        validateWord(word, length);
+        long packed = 0;
+        for (int i = 0; i < length; i++) {
+            packed |= (long) letterIndex(word.charAt(i)) << (i * BITS_PER_LETTER);
+        }
+        return packed;
+    }
+
+    /**
+     * Packs a word already encoded by {@link #encode(String, int)}.
+     *
+     * @param letters the encoded letters
+     * @return the packed word
+     */
+    public static long pack(byte[] letters) {
+        long packed = 0;
+        for (int i = 0; i < letters.length; i++) {
+            packed |= (long) letters[i] << (i * BITS_PER_LETTER);
+        }
+        return packed;
+    }
+
+    /**
+     * Unpacks a word packed by {@link #pack(String)} into an uppercase String.
+     *
+     * @param packed the packed word
+     * @return the word
+     */
+    public static String unpack(long packed) {
+        return unpack(packed, WORD_LENGTH);
+    }
+
+    /**
+     * Unpacks a word of the given length packed by {@link #pack(String, int)}.
+     *
+     * @param packed the packed word
+     * @param length the word length
+     * @return the uppercase word
+     */
+    public static String unpack(long packed, int length) {
+        byte[] chars = new byte[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (byte) ('A' + ((packed >>> (i * BITS_PER_LETTER)) & LETTER_MASK));
+        }
+        return new String(chars, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Unpacks a packed word into one byte per letter, the format of {@link #encode(String)}.
+     *
+     * @param packed the packed word
+     * @param letters array receiving the letters 0..25, one slot per letter of the word
+     */
+    public static void unpackLetters(long packed, byte[] letters) {
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = (byte) ((packed >>> (i * BITS_PER_LETTER)) & LETTER_MASK);
+        }
+    }
+
+    /**
+     * Returns whether a value is a word packed by {@link #pack(String, int)}: every
+     * letter is 0..25 and no bit is set above the last letter.
+     *
+     * @param packed the value to check
+     * @param length the word length
+     * @return whether it is a packed word of that length
+     */
+    public static boolean isPacked(long packed, int length) {
+        if (packed >>> (length * BITS_PER_LETTER) != 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (((packed >>> (i * BITS_PER_LETTER)) & LETTER_MASK) >= ALPHABET_SIZE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes a packed feedback code into hints. The returned lists are shared and immutable.
+     *
+     * @param code the packed feedback code (0..242)
+     * @return a list of hints, one for each letter
+     */
+    public static List<Hint> decode(int code) {
+        return DECODED.get(code);
+    }
+
+    /**
+     * Decodes a packed feedback code of any supported word length into hints.
+     *
+     * @param code the packed feedback code
+     * @param length the word length
+     * @return an immutable list of hints, one for each letter
+     */
+    public static List<Hint> decode(int code, int length) {
+        if (length == WORD_LENGTH) {
+            return decode(code);
+        }
+        Hint[] hints = new Hint[length];
+        for (int i = 0; i < length; i++) {
+            hints[i] = hintAt(code, i);
+        }
+        return List.of(hints);
+    }
+
+    /**
+     * Returns the hint at a position of a packed feedback code.
+     *
+     * @param code the packed feedback code
+     * @param position the letter position
+     * @return the hint for that position
+     */
+    public static Hint hintAt(int code, int position) {
+        return Hint.fromDigit(code / POW3[position] % 3);
+    }
+
+    /**
+     * Packs a list of hints into a feedback code, the inverse of {@link #decode(int)}.
+     *
+     * @param hints a list of hints, one per letter
+     * @return the packed feedback code
+     */
+    public static int encodeHints(List<Hint> hints) {
+        int code = 0;
+        for (int i = 0; i < hints.size(); i++) {
+            code += hints.get(i).digit() * POW3[i];
+        }
+        return code;
+    }
+
+    private static List<List<Hint>> decodeAllPatterns() {
+        List<List<Hint>> patterns = new ArrayList<>(PATTERN_COUNT);
+        Hint[] hints = new Hint[WORD_LENGTH];
+        for (int code = 0; code < PATTERN_COUNT; code++) {
+            for (int i = 0; i < WORD_LENGTH; i++) {
+                hints[i] = hintAt(code, i);
+            }
+            patterns.add(List.of(hints));
+        }
+        return List.copyOf(patterns);
+    }
+
+    private static int letterIndex(char c) {
+        int index = Character.toUpperCase(c) - 'A';
+        if (index < 0 || index >= ALPHABET_SIZE) {
+            throw new IllegalArgumentException("Word must contain only letters A-Z: " + c);
+        }
+        return index;
+    }
+
+    private static void validateWord(String word, int length) {
+        if (word == null)
+            throw new IllegalArgumentException("Word must not be null.");
+        if (word.length() != length)
+            throw new InvalidWordLengthException("Word must be a " + length + "-letter word.");
+    }
+
+    private static InvalidWordLengthException unsupportedLength(int length) {
+        return new InvalidWordLengthException("Word length must be between " + MIN_WORD_LENGTH
+                + " and " + MAX_WORD_LENGTH + ": " + length);
+    }
+
     /**
      * Pass chars and sets it's positions to related position map.
      *
@@ -0,0 +1,263 @@
+package com.wordle.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Precomputed table of packed feedback codes for every (answer, guess) pair, with a
+ * versioned on-disk cache loaded through a memory map. Cells are as wide as the word
+ * length needs: one byte up to 5 letters (3^5 = 243 codes), two bytes up to 8 letters.
+ */
+public final class FeedbackMatrix {
+    private static final int MAGIC = 0x5746424D; // "WFBM"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 28;
+
+    private final WordStore answers;
+    private final WordStore guesses;
+    private final int cellBytes;
+    private final ByteBuffer cells;
+
+    private FeedbackMatrix(WordStore answers, WordStore guesses, ByteBuffer cells) {
+        this.answers = answers;
+        this.guesses = guesses;
+        this.cellBytes = cellBytes(answers.length());
+        this.cells = cells;
+    }
+
+    /**
+     * Computes the matrix for a word list used both as answers and guesses.
+     *
+     * @param words the word list
+     * @return the computed matrix
+     */
+    public static FeedbackMatrix compute(List<String> words) {
+        return compute(words, words);
+    }
+
+    /**
+     * Computes the full answer x guess matrix, in parallel over answer rows.
+     *
+     * @param answers the possible answers (rows)
+     * @param guesses the allowed guesses (columns)
+     * @return the computed matrix
+     */
+    public static FeedbackMatrix compute(List<String> answers, List<String> guesses) {
+        WordStore answerStore = WordStore.of(answers);
+        WordStore guessStore = storeOf(guesses, answerStore.length());
+        long[] packedAnswers = packAll(answerStore);
+        long[] packedGuesses = packAll(guessStore);
+        int length = answerStore.length();
+        int columns = packedGuesses.length;
+        int width = cellBytes(length);
+        byte[] cells = new byte[Math.multiplyExact(Math.multiplyExact(packedAnswers.length, columns), width)];
+        IntStream.range(0, packedAnswers.length).parallel().forEach(row -> {
+            long answer = packedAnswers[row];
+            int offset = row * columns * width;
+            if (width == 1) {
+                for (int col = 0; col < columns; col++) {
+                    cells[offset + col] = (byte) FeedbackCalculator.computeFeedbackCode(answer, packedGuesses[col], length);
+                }
+            } else {
+                for (int col = 0; col < columns; col++) {
+                    int code = FeedbackCalculator.computeFeedbackCode(answer, packedGuesses[col], length);
+                    cells[offset + 2 * col] = (byte) (code >>> 8);
+                    cells[offset + 2 * col + 1] = (byte) code;
+                }
+            }
+        });
+        return new FeedbackMatrix(answerStore, guessStore, ByteBuffer.wrap(cells));
+    }
+
+    /**
+     * Loads the matrix from a cache file, or computes and saves it when the file
+     * is missing or was built for different word lists.
+     *
+     * @param file the cache file
+     * @param answers the possible answers (rows)
+     * @param guesses the allowed guesses (columns)
+     * @return the loaded or computed matrix
+     */
+    public static FeedbackMatrix loadOrCompute(Path file, List<String> answers, List<String> guesses) {
+        Optional<FeedbackMatrix> cached = load(file, answers, guesses);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        FeedbackMatrix matrix = compute(answers, guesses);
+        matrix.save(file);
+        return matrix;
+    }
+
+    /**
+     * Memory-maps a cache file written by {@link #save(Path)}.
+     *
+     * @param file the cache file
+     * @param answers the possible answers the file must have been built for
+     * @param guesses the allowed guesses the file must have been built for
+     * @return the matrix, or empty if the file is missing, of another version or built for other word lists
+     */
+    public static Optional<FeedbackMatrix> load(Path file, List<String> answers, List<String> guesses) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        WordStore answerStore = WordStore.of(answers);
+        WordStore guessStore = storeOf(guesses, answerStore.length());
+        int length = answerStore.length();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long expectedSize = HEADER_SIZE + (long) answers.size() * guesses.size() * cellBytes(length);
+            if (channel.size() != expectedSize) {
+                return Optional.empty();
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, expectedSize);
+            if (mapped.getInt() != MAGIC || mapped.getInt() != VERSION
+                    || mapped.getLong() != hash(answerStore, guessStore)
+                    || mapped.getInt() != length
+                    || mapped.getInt() != answers.size() || mapped.getInt() != guesses.size()) {
+                return Optional.empty();
+            }
+            ByteBuffer cells = mapped.slice(HEADER_SIZE, (int) (expectedSize - HEADER_SIZE));
+            return Optional.of(new FeedbackMatrix(answerStore, guessStore, cells));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading feedback matrix from " + file, e);
+        }
+    }
+
+    /**
+     * Writes the matrix to a cache file. The file is written next to the target
+     * and moved into place, so readers never see a partial file.
+     *
+     * @param file the cache file
+     */
+    public void save(Path file) {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putLong(hash(answers, guesses))
+                    .putInt(answers.length())
+                    .putInt(answers.size())
+                    .putInt(guesses.size())
+                    .flip();
+            writeFully(channel, header);
+            writeFully(channel, cells.duplicate().clear());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing feedback matrix to " + file, e);
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing feedback matrix to " + file, e);
+        }
+    }
+
+    /**
+     * Returns the packed feedback code for an answer and a guess.
+     *
+     * @param answerIndex the row, an index into the answers
+     * @param guessIndex the column, an index into the guesses
+     * @return the packed feedback code (0..3^length - 1)
+     */
+    public int code(int answerIndex, int guessIndex) {
+        int cell = answerIndex * guesses.size() + guessIndex;
+        return cellBytes == 1 ? cells.get(cell) & 0xFF : cells.getChar(cell * 2);
+    }
+
+    /**
+     * Returns whether the matrix was built with the given list as both its answers and
+     * its guesses, in the same order, so it can stand in for computing their feedback.
+     *
+     * @param words the word list
+     * @return whether every cell is the code of that list's words
+     */
+    public boolean covers(WordStore words) {
+        return sameWords(answers, words) && sameWords(guesses, words);
+    }
+
+    public WordStore answers() {
+        return answers;
+    }
+
+    public WordStore guesses() {
+        return guesses;
+    }
+
+    public int wordLength() {
+        return answers.length();
+    }
+
+    public int answerCount() {
+        return answers.size();
+    }
+
+    public int guessCount() {
+        return guesses.size();
+    }
+
+    private static long[] packAll(WordStore words) {
+        long[] packed = new long[words.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = words.packed(i);
+        }
+        return packed;
+    }
+
+    private static boolean sameWords(WordStore a, WordStore b) {
+        if (a == b) {
+            return true;
+        }
+        if (a.size() != b.size() || a.length() != b.length()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            if (a.packed(i) != b.packed(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static WordStore storeOf(List<String> guesses, int length) {
+        WordStore store = guesses instanceof WordStore s ? s : WordStore.of(guesses, length);
+        if (store.length() != length) {
+            throw new IllegalArgumentException("Answers and guesses must have the same word length.");
+        }
+        return store;
+    }
+
+    private static int cellBytes(int length) {
+        return FeedbackCalculator.patternCount(length) <= 256 ? 1 : 2;
+    }
+
+    /**
+     * FNV-1a over the packed words of both lists, so any change to either list,
+     * including its order, invalidates the cache.
+     */
+    private static long hash(WordStore answers, WordStore guesses) {
+        long h = 0xcbf29ce484222325L;
+        for (WordStore words : List.of(answers, guesses)) {
+            h = (h ^ words.size()) * 0x100000001b3L;
+            for (int i = 0; i < words.size(); i++) {
+                h = (h ^ words.packed(i)) * 0x100000001b3L;
+            }
+        }
+        return h;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
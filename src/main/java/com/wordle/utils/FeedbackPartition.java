@@ -0,0 +1,98 @@
+package com.wordle.utils;
+
+import com.wordle.Hint;
+
+/**
+ * Splits candidate answers by the feedback a guess would get from each of them, as
+ * an adversarial game does after every guess. The candidates are word indices in an
+ * int array; one scoring pass counts the 3^length feedback buckets and remembers each
+ * candidate's code, and one compaction pass moves the chosen bucket to the front of
+ * the same array. Scratch arrays are reused, so a partition allocates nothing. Not
+ * thread-safe; each game keeps its own.
+ */
+public class FeedbackPartition {
+    private final long[] packedWords;
+    private final int length;
+    private final int[] buckets;
+    private final int[] rank;
+    private int[] codes;
+    private int kept;
+
+    /**
+     * Creates a partitioner over a word list.
+     *
+     * @param words the word list the candidate indices refer to
+     */
+    public FeedbackPartition(WordStore words) {
+        this.length = words.length();
+        this.packedWords = new long[words.size()];
+        for (int i = 0; i < packedWords.length; i++) {
+            packedWords[i] = words.packed(i);
+        }
+        int patterns = FeedbackCalculator.patternCount(length);
+        this.buckets = new int[patterns];
+        this.rank = new int[patterns];
+        for (int code = 0; code < patterns; code++) {
+            int greens = 0;
+            int yellows = 0;
+            for (int i = 0; i < length; i++) {
+                Hint hint = FeedbackCalculator.hintAt(code, i);
+                greens += hint == Hint.GREEN ? 1 : 0;
+                yellows += hint == Hint.YELLOW ? 1 : 0;
+            }
+            rank[code] = greens * (length + 1) + yellows;
+        }
+        this.codes = new int[0];
+    }
+
+    /**
+     * Keeps the candidates in the largest feedback bucket of a guess, moved to the front
+     * of the array in their original order. Among buckets of equal size the one showing
+     * fewer greens, then fewer yellows, is kept, so the guess is solved only when it is
+     * the last candidate.
+     *
+     * @param candidates word indices of the candidates; reordered in place
+     * @param count number of leading entries of {@code candidates} in use
+     * @param packedGuess the guess, packed
+     * @return the feedback code of the kept bucket; {@link #kept()} tells its size
+     */
+    public int keepLargest(int[] candidates, int count, long packedGuess) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("No candidates to partition.");
+        }
+        if (codes.length < count) {
+            codes = new int[count];
+        }
+        int best = -1;
+        for (int i = 0; i < count; i++) {
+            int code = FeedbackCalculator.computeFeedbackCode(packedWords[candidates[i]], packedGuess, length);
+            codes[i] = code;
+            int size = ++buckets[code];
+            if (best < 0 || size > buckets[best] || (size == buckets[best] && beats(code, best))) {
+                best = code;
+            }
+        }
+        kept = buckets[best];
+        int to = 0;
+        for (int i = 0; i < count; i++) {
+            buckets[codes[i]] = 0;
+            if (codes[i] == best) {
+                candidates[to++] = candidates[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the number of candidates kept by the last {@link #keepLargest} call.
+     *
+     * @return the size of the kept bucket
+     */
+    public int kept() {
+        return kept;
+    }
+
+    private boolean beats(int code, int other) {
+        return rank[code] != rank[other] ? rank[code] < rank[other] : code < other;
+    }
+}
@@ -0,0 +1,113 @@
+package com.wordle.utils;
+
+import static com.wordle.utils.FeedbackCalculator.BITS_PER_LETTER;
+import static com.wordle.utils.FeedbackCalculator.LETTER_MASK;
+
+/**
+ * Hints revealed so far in a hard-mode game, folded into a fixed-size mask: the letter
+ * fixed at each GREEN position and the minimum count of every letter shown GREEN or
+ * YELLOW. Checking a guess costs one masked compare plus a count per required letter,
+ * however many guesses came before. Not thread-safe; each game keeps its own.
+ */
+public class HardModeConstraints {
+    private final int length;
+    private final byte[] minCounts = new byte[FeedbackCalculator.ALPHABET_SIZE];
+    private long fixedMask;
+    private long fixedLetters;
+    private int requiredLetters;
+
+    /**
+     * Creates an empty set of constraints.
+     *
+     * @param length the word length (4..8)
+     */
+    public HardModeConstraints(int length) {
+        FeedbackCalculator.checkLength(length);
+        this.length = length;
+    }
+
+    /**
+     * Adds the hints revealed by a guess.
+     *
+     * @param guess the packed guess
+     * @param code the packed feedback code received for it
+     */
+    public void update(long guess, int code) {
+        byte[] counts = new byte[FeedbackCalculator.ALPHABET_SIZE];
+        for (int i = 0; i < length; i++, code /= 3) {
+            int hint = code % 3;
+            if (hint == 0) {
+                continue;
+            }
+            int shift = i * BITS_PER_LETTER;
+            int letter = (int) ((guess >>> shift) & LETTER_MASK);
+            counts[letter]++;
+            if (hint == 2) {
+                fixedMask |= (long) LETTER_MASK << shift;
+                fixedLetters |= (long) letter << shift;
+            }
+        }
+        for (int letter = 0; letter < counts.length; letter++) {
+            if (counts[letter] > minCounts[letter]) {
+                minCounts[letter] = counts[letter];
+                requiredLetters |= 1 << letter;
+            }
+        }
+    }
+
+    /**
+     * Checks a guess against every hint revealed so far.
+     *
+     * @param guess the packed guess
+     * @return true if the guess keeps every GREEN letter in place and uses every revealed letter
+     */
+    public boolean allows(long guess) {
+        return violation(guess) == null;
+    }
+
+    /**
+     * Explains why a guess breaks the revealed hints.
+     *
+     * @param guess the packed guess
+     * @return a message such as "3rd letter must be E", or null if the guess is allowed
+     */
+    public String violation(long guess) {
+        if ((guess & fixedMask) != fixedLetters) {
+            for (int i = 0; i < length; i++) {
+                int shift = i * BITS_PER_LETTER;
+                if (((guess ^ fixedLetters) & fixedMask & ((long) LETTER_MASK << shift)) != 0) {
+                    return ordinal(i + 1) + " letter must be " + letterAt(fixedLetters, shift);
+                }
+            }
+        }
+        for (int required = requiredLetters; required != 0; required &= required - 1) {
+            int letter = Integer.numberOfTrailingZeros(required);
+            int count = 0;
+            for (int i = 0; i < length; i++) {
+                if (((guess >>> (i * BITS_PER_LETTER)) & LETTER_MASK) == letter) {
+                    count++;
+                }
+            }
+            if (count < minCounts[letter]) {
+                char c = (char) ('A' + letter);
+                return minCounts[letter] == 1
+                        ? "Guess must contain " + c
+                        : "Guess must contain " + minCounts[letter] + " " + c + "s";
+            }
+        }
+        return null;
+    }
+
+    private static char letterAt(long packed, int shift) {
+        return (char) ('A' + ((packed >>> shift) & LETTER_MASK));
+    }
+
+    private static String ordinal(int n) {
+        return n + switch (n) {
+            case 1 -> "st";
+            case 2 -> "nd";
+            case 3 -> "rd";
+            default -> "th";
+        };
+    }
+}
@@ -1,19 +1,25 @@
 package com.wordle.utils;
 
 import com.wordle.exception.NoValidWordsInFile;
+import com.wordle.metrics.Metrics;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
-import java.util.Locale;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 /**
  * Utility class to load the word list from a file.
  */
 public class WordListLoader {
+    private static final long MAP_CHUNK_SIZE = 1L << 30;
+
     private WordListLoader(){
         throw new IllegalStateException("Utility class");
     }
@@ -25,18 +31,110 @@ public class WordListLoader {
      * @return a list of 5-letter words
      */
     public static List<String> load(Path path) {
+        return load(path, FeedbackCalculator.WORD_LENGTH);
+    }
+
+    /**
+     * Loads words of the given length from a file, normalizing to uppercase.
+     *
+     * @param path the path to the word list file
+     * @param length the word length to keep (4..8)
+     * @return a list of words of that length
+     */
+    public static List<String> load(Path path, int length) {
+        WordValidator validator = WordValidator.of(length);
+        long start = Metrics.start();
         try(Stream<String> wordsStream = Files.lines(path)){
             List<String> words = wordsStream
-                    .map(String::trim)
-                    .filter(w -> w.length() == 5 && w.matches("^[A-Za-z]{5}$"))
-                    .map(s -> s.toUpperCase(Locale.ENGLISH))
+                    .map(validator::normalize)
+                    .filter(Objects::nonNull)
                     .toList();
             if (words.isEmpty()) {
                 throw new NoValidWordsInFile(path.toString());
             }
+            Metrics.wordLoad().recordSince(start);
             return words;
         }catch(IOException e){
             throw new UncheckedIOException("Error reading word list from " + path, e);
         }
     }
+
+    /**
+     * Loads 5-letter words like {@link #load(Path)}, but memory-maps the file and scans
+     * the raw bytes, packing each valid word straight into a {@link WordStore}.
+     * No String is created per line, which suits multi-million-line corpora.
+     *
+     * @param path the path to the word list file
+     * @return the packed 5-letter words, uppercase
+     */
+    public static WordStore loadPacked(Path path) {
+        return loadPacked(path, FeedbackCalculator.WORD_LENGTH);
+    }
+
+    /**
+     * Loads words of the given length like {@link #load(Path, int)} into a {@link WordStore},
+     * scanning the memory-mapped file as {@link #loadPacked(Path)} does.
+     *
+     * @param path the path to the word list file
+     * @param length the word length to keep (4..8)
+     * @return the packed words, uppercase
+     */
+    public static WordStore loadPacked(Path path, int length) {
+        long start = Metrics.start();
+        WordStore.Builder words = new WordStore.Builder(length);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long chunk = Math.min(MAP_CHUNK_SIZE, size - position);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, chunk);
+                int end = (int) chunk;
+                if (position + chunk < size) {
+                    // stop after the last complete line; the next chunk starts there
+                    end = lastLineEnd(buffer, end);
+                }
+                scanLines(buffer, end, WordValidator.of(length), words);
+                position += end;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading word list from " + path, e);
+        }
+        if (words.size() == 0) {
+            throw new NoValidWordsInFile(path.toString());
+        }
+        WordStore store = words.build();
+        Metrics.wordLoad().recordSince(start);
+        return store;
+    }
+
+    private static int lastLineEnd(MappedByteBuffer buffer, int end) {
+        for (int i = end - 1; i >= 0; i--) {
+            if (isLineTerminator(buffer.get(i))) {
+                return i + 1;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Splits the bytes into lines on '\n', '\r' or "\r\n" and keeps every line that,
+     * trimmed like {@link String#trim()}, is exactly {@code length} ASCII letters.
+     */
+    private static void scanLines(MappedByteBuffer buffer, int end, WordValidator validator, WordStore.Builder words) {
+        int lineStart = 0;
+        for (int i = 0; i <= end; i++) {
+            if (i < end && !isLineTerminator(buffer.get(i))) {
+                continue;
+            }
+            long packed = validator.parse(buffer, lineStart, i);
+            if (packed != WordValidator.INVALID) {
+                words.add(packed);
+            }
+            lineStart = i + 1;
+        }
+    }
+
+    private static boolean isLineTerminator(byte b) {
+        return b == '\n' || b == '\r';
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,221 @@
+package com.wordle.utils;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable, int-indexed word list storing each word as one packed {@code long}
+ * (see {@link FeedbackCalculator#pack(String, int)}). All words have the same length. Strings are only
+ * created when a word is read through {@link #get(int)}; lookups by word go through
+ * an open-addressing hash table of word indices instead of a linear scan.
+ */
+public final class WordStore extends AbstractList<String> implements RandomAccess {
+    private static final int EMPTY = -1;
+
+    private final int length;
+    private final long[] words;
+    private final int[] table;
+    private final int tableMask;
+    private final int tableShift;
+
+    private WordStore(int length, long[] words) {
+        this.length = length;
+        this.words = words;
+        int capacity = Integer.highestOneBit(Math.max(words.length, 1) * 2 - 1) << 1;
+        this.table = new int[capacity];
+        this.tableMask = capacity - 1;
+        this.tableShift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+        Arrays.fill(table, EMPTY);
+        for (int i = 0; i < words.length; i++) {
+            int slot = slot(words[i]);
+            if (slot < 0) {
+                table[-slot - 1] = i;
+            }
+        }
+    }
+
+    /**
+     * Returns a store holding the given 5-letter words, or the list itself if it already is one.
+     *
+     * @param words the 5-letter words
+     * @return the store
+     * @throws IllegalArgumentException if a word is null or contains a non-letter
+     * @throws com.wordle.exception.InvalidWordLengthException if a word length is not 5
+     */
+    public static WordStore of(List<String> words) {
+        if (words instanceof WordStore store) {
+            return store;
+        }
+        return of(words, FeedbackCalculator.WORD_LENGTH);
+    }
+
+    /**
+     * Returns a store holding the given words of one length.
+     *
+     * @param words the words
+     * @param length the length every word must have (4..8)
+     * @return the store
+     * @throws IllegalArgumentException if a word is null or contains a non-letter
+     * @throws com.wordle.exception.InvalidWordLengthException if a word has another length
+     */
+    public static WordStore of(List<String> words, int length) {
+        FeedbackCalculator.checkLength(length);
+        if (words instanceof WordStore store && store.length == length) {
+            return store;
+        }
+        long[] packed = new long[words.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = FeedbackCalculator.pack(words.get(i), length);
+        }
+        return new WordStore(length, packed);
+    }
+
+    /**
+     * Packs a word into the store's encoding.
+     *
+     * @param word the word
+     * @return the packed word
+     */
+    public long encode(String word) {
+        return FeedbackCalculator.pack(word, length);
+    }
+
+    /**
+     * Unpacks a word from the store's encoding.
+     *
+     * @param packed the packed word
+     * @return the uppercase word
+     */
+    public String decode(long packed) {
+        return FeedbackCalculator.unpack(packed, length);
+    }
+
+    @Override
+    public String get(int index) {
+        return decode(packed(index));
+    }
+
+    /**
+     * Returns the length of every word in the store.
+     *
+     * @return the word length
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns a word without materializing it as a String.
+     *
+     * @param index the word index
+     * @return the packed word
+     */
+    public long packed(int index) {
+        if (index < 0 || index >= words.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + words.length);
+        }
+        return words[index];
+    }
+
+    @Override
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * Returns the index of the first occurrence of a packed word.
+     *
+     * @param packed the packed word
+     * @return the word index, or -1 if the word is not in the store
+     */
+    public int indexOf(long packed) {
+        int slot = slot(packed);
+        return slot < 0 ? -1 : table[slot];
+    }
+
+    public boolean contains(long packed) {
+        return indexOf(packed) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof String word) || word.length() != length) {
+            return -1;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return -1;
+            }
+        }
+        return indexOf(encode(word));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns a 64-bit FNV-1a hash of the word length and every packed word in order,
+     * for checking that a file derived from a word list still matches it.
+     *
+     * @return the fingerprint
+     */
+    public long fingerprint() {
+        long h = 0xcbf29ce484222325L;
+        h = (h ^ length) * 0x100000001b3L;
+        h = (h ^ words.length) * 0x100000001b3L;
+        for (long word : words) {
+            h = (h ^ word) * 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /**
+     * Linear probe for a packed word.
+     *
+     * @return the slot holding the word, or {@code -(emptySlot + 1)} if it is absent
+     */
+    private int slot(long packed) {
+        int slot = (int) ((packed * 0x9E3779B97F4A7C15L) >>> tableShift);
+        while (table[slot] != EMPTY) {
+            if (words[table[slot]] == packed) {
+                return slot;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+        return -slot - 1;
+    }
+
+    /**
+     * Appends packed words to a growing array.
+     */
+    static final class Builder {
+        private final int length;
+        private long[] words = new long[1024];
+        private int size;
+
+        Builder(int length) {
+            FeedbackCalculator.checkLength(length);
+            this.length = length;
+        }
+
+        void add(long packed) {
+            if (size == words.length) {
+                words = Arrays.copyOf(words, size * 2);
+            }
+            words[size++] = packed;
+        }
+
+        int size() {
+            return size;
+        }
+
+        WordStore build() {
+            return new WordStore(length, Arrays.copyOf(words, size));
+        }
+    }
+}
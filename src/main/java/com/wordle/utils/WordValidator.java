@@ -0,0 +1,127 @@
+package com.wordle.utils;
+
+import java.nio.ByteBuffer;
+
+import static com.wordle.utils.FeedbackCalculator.BITS_PER_LETTER;
+
+/**
+ * Checks that raw text is a word of one length and packs it, in a single pass over the
+ * characters: surrounding whitespace is skipped as {@link String#trim()} would, ASCII
+ * letters of either case are accepted, and anything else rejects the word. No regex is
+ * compiled and no intermediate String is created. One shared, stateless instance
+ * exists per supported length.
+ */
+public final class WordValidator {
+    /** Returned by the parse methods for text that is not a word of the validator's length. */
+    public static final long INVALID = -1L;
+
+    private static final WordValidator[] BY_LENGTH = new WordValidator[FeedbackCalculator.MAX_WORD_LENGTH + 1];
+
+    static {
+        for (int length = FeedbackCalculator.MIN_WORD_LENGTH; length <= FeedbackCalculator.MAX_WORD_LENGTH; length++) {
+            BY_LENGTH[length] = new WordValidator(length);
+        }
+    }
+
+    private final int length;
+
+    private WordValidator(int length) {
+        this.length = length;
+    }
+
+    /**
+     * Returns the validator for a word length.
+     *
+     * @param length the word length (4..8)
+     * @return the shared validator
+     * @throws com.wordle.exception.InvalidWordLengthException if the length is not supported
+     */
+    public static WordValidator of(int length) {
+        FeedbackCalculator.checkLength(length);
+        return BY_LENGTH[length];
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Validates and packs text, ignoring case and surrounding whitespace.
+     *
+     * @param input the text, may be null
+     * @return the word packed as by {@link FeedbackCalculator#pack(String, int)}, or
+     *         {@link #INVALID} if the text is not a word of this length
+     */
+    public long parse(CharSequence input) {
+        if (input == null) {
+            return INVALID;
+        }
+        int from = 0;
+        int to = input.length();
+        while (from < to && input.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && input.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        if (to - from != length) {
+            return INVALID;
+        }
+        long packed = 0;
+        for (int i = 0; i < length; i++) {
+            int letter = letterIndex(input.charAt(from + i));
+            if (letter < 0) {
+                return INVALID;
+            }
+            packed |= (long) letter << (i * BITS_PER_LETTER);
+        }
+        return packed;
+    }
+
+    /**
+     * Validates and packs the bytes of one line of ASCII text, ignoring case and
+     * surrounding whitespace. The buffer's position is not changed.
+     *
+     * @param buffer the bytes
+     * @param from the index of the first byte of the line
+     * @param to the index after the last byte of the line
+     * @return the packed word, or {@link #INVALID} if the line is not a word of this length
+     */
+    public long parse(ByteBuffer buffer, int from, int to) {
+        while (from < to && (buffer.get(from) & 0xFF) <= ' ') {
+            from++;
+        }
+        while (to > from && (buffer.get(to - 1) & 0xFF) <= ' ') {
+            to--;
+        }
+        if (to - from != length) {
+            return INVALID;
+        }
+        long packed = 0;
+        for (int i = 0; i < length; i++) {
+            int letter = letterIndex((char) (buffer.get(from + i) & 0xFF));
+            if (letter < 0) {
+                return INVALID;
+            }
+            packed |= (long) letter << (i * BITS_PER_LETTER);
+        }
+        return packed;
+    }
+
+    /**
+     * Validates text and returns it as an uppercase word.
+     *
+     * @param input the text, may be null
+     * @return the uppercase word, or null if the text is not a word of this length
+     */
+    public String normalize(CharSequence input) {
+        long packed = parse(input);
+        return packed == INVALID ? null : FeedbackCalculator.unpack(packed, length);
+    }
+
+    private static int letterIndex(char c) {
+        // folds 'A'..'Z' onto 'a'..'z'; anything that lands outside them is not a letter
+        int letter = (c | 0x20) - 'a';
+        return letter >= 0 && letter < FeedbackCalculator.ALPHABET_SIZE ? letter : -1;
+    }
+}
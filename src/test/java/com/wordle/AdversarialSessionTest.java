@@ -0,0 +1,51 @@
+package com.wordle;
+
+import com.wordle.exception.InvalidGuessException;
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.WordStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the AdversarialSession class.
+ */
+class AdversarialSessionTest {
+    private static final WordStore WORDS = WordStore.of(List.of("WATER", "LATER", "HATER", "OTTER", "BANAL"));
+
+    @Test
+    void testDodgesGuessesUntilCornered() {
+        AdversarialSession session = new AdversarialSession(WORDS, 6, false);
+        session.guess("OTTER");
+        assertEquals(3, session.remainingCandidates());
+        session.guess("WATER");
+        assertEquals(2, session.remainingCandidates());
+        session.guess("LATER");
+        assertEquals(1, session.remainingCandidates());
+        assertEquals("HATER", session.answer());
+        assertEquals(FeedbackCalculator.ALL_GREEN, session.guess("HATER"));
+        assertEquals(GameSession.Status.SOLVED, session.status());
+        assertEquals(4, session.attempts());
+    }
+
+    @Test
+    void testFailedGameRevealsRemainingWord() {
+        AdversarialSession session = new AdversarialSession(WORDS, 1, false);
+        session.guess("OTTER");
+        assertEquals(GameSession.Status.FAILED, session.status());
+        assertNotEquals("OTTER", session.answer());
+        assertThrows(IllegalStateException.class, () -> session.guess("WATER"));
+    }
+
+    @Test
+    void testHardMode() {
+        AdversarialSession session = new AdversarialSession(WORDS, 6, true);
+        assertEquals("Not in word list", session.rejectReason("CRANE"));
+        session.guess("WATER");
+        assertNotNull(session.rejectReason("BANAL"));
+        assertThrows(InvalidGuessException.class, () -> session.guess("BANAL"));
+        assertEquals(1, session.attempts());
+    }
+}
@@ -162,4 +162,113 @@ class FeedbackCalculatorTest {
         assertThrows(InvalidWordLengthException.class, () -> FeedbackCalculator.computeFeedback("ABCDEF", "ABCDE"));
     }
 
+    @Test
+    void testPackedPathsAgreeOnSmallAlphabet() {
+        String alphabet = "ABC";
+        int[] letterCounts = new int[FeedbackCalculator.ALPHABET_SIZE];
+        char[] a = new char[5];
+        char[] g = new char[5];
+        for (int answerIndex = 0; answerIndex < 243; answerIndex++) {
+            fillWord(a, answerIndex, alphabet);
+            String answer = new String(a);
+            byte[] encodedAnswer = FeedbackCalculator.encode(answer);
+            long packedAnswer = FeedbackCalculator.pack(answer);
+            for (int guessIndex = 0; guessIndex < 243; guessIndex++) {
+                fillWord(g, guessIndex, alphabet);
+                String guess = new String(g);
+                int byteCode = FeedbackCalculator.computeFeedbackCode(encodedAnswer, FeedbackCalculator.encode(guess), letterCounts);
+                int longCode = FeedbackCalculator.computeFeedbackCode(packedAnswer, FeedbackCalculator.pack(guess));
+                assertEquals(byteCode, longCode, answer + " / " + guess);
+                assertEquals(referenceFeedback(answer, guess), FeedbackCalculator.decode(longCode), answer + " / " + guess);
+            }
+        }
+        assertArrayEquals(new int[FeedbackCalculator.ALPHABET_SIZE], letterCounts);
+    }
+
+    @Test
+    void testPackedCodeMatchesHintList() {
+        String[][] pairs = {{"WATER", "OTTER"}, {"BANAL", "ALALA"}, {"RADAR", "ARRRA"}, {"BOOKS", "SOOBO"}, {"PAPER", "PEPPY"}};
+        int[] letterCounts = new int[FeedbackCalculator.ALPHABET_SIZE];
+        for (String[] pair : pairs) {
+            List<Hint> expected = FeedbackCalculator.computeFeedback(pair[0], pair[1]);
+            int code = FeedbackCalculator.computeFeedbackCode(
+                    FeedbackCalculator.encode(pair[0]), FeedbackCalculator.encode(pair[1]), letterCounts);
+            assertEquals(FeedbackCalculator.encodeHints(expected), code);
+            for (int i = 0; i < 5; i++) {
+                assertEquals(expected.get(i), FeedbackCalculator.hintAt(code, i));
+            }
+        }
+        assertEquals(FeedbackCalculator.ALL_GREEN,
+                FeedbackCalculator.computeFeedbackCode(FeedbackCalculator.pack("apple"), FeedbackCalculator.pack("APPLE")));
+        assertEquals(0, FeedbackCalculator.computeFeedbackCode(FeedbackCalculator.pack("FRUIT"), FeedbackCalculator.pack("CHECK")));
+    }
+
+    @Test
+    void testEncodeRejectsInvalidWords() {
+        assertThrows(IllegalArgumentException.class, () -> FeedbackCalculator.encode(null));
+        assertThrows(IllegalArgumentException.class, () -> FeedbackCalculator.pack("AB1DE"));
+        assertThrows(InvalidWordLengthException.class, () -> FeedbackCalculator.encode("ABCD"));
+    }
+
+    @Test
+    void testIsPacked() {
+        assertTrue(FeedbackCalculator.isPacked(FeedbackCalculator.pack("ZEBRA"), 5));
+        assertTrue(FeedbackCalculator.isPacked(0, 5));
+        assertFalse(FeedbackCalculator.isPacked(-1L, 5));
+        assertFalse(FeedbackCalculator.isPacked(26, 5));
+        assertFalse(FeedbackCalculator.isPacked(FeedbackCalculator.pack("ZEBRAS", 6), 5));
+    }
+
+    @Test
+    void testEveryWordLengthMatchesReference() {
+        java.util.Random random = new java.util.Random(11);
+        for (int length = FeedbackCalculator.MIN_WORD_LENGTH; length <= FeedbackCalculator.MAX_WORD_LENGTH; length++) {
+            char[] a = new char[length];
+            char[] g = new char[length];
+            for (int n = 0; n < 2000; n++) {
+                for (int i = 0; i < length; i++) {
+                    a[i] = (char) ('A' + random.nextInt(4));
+                    g[i] = (char) ('A' + random.nextInt(4));
+                }
+                String answer = new String(a);
+                String guess = new String(g);
+                int code = FeedbackCalculator.computeFeedbackCode(
+                        FeedbackCalculator.pack(answer, length), FeedbackCalculator.pack(guess, length), length);
+                assertEquals(referenceFeedback(answer, guess), FeedbackCalculator.decode(code, length), answer + " / " + guess);
+                assertEquals(referenceFeedback(answer, guess), FeedbackCalculator.computeFeedback(answer, guess, length));
+            }
+            assertEquals(FeedbackCalculator.allGreen(length), FeedbackCalculator.computeFeedbackCode(
+                    FeedbackCalculator.pack("Q".repeat(length), length), FeedbackCalculator.pack("Q".repeat(length), length), length));
+        }
+        assertThrows(InvalidWordLengthException.class, () -> FeedbackCalculator.computeFeedbackCode(0, 0, 9));
+    }
+
+    /**
+     * Straightforward count-based feedback, independent of the packed implementation.
+     */
+    private static List<Hint> referenceFeedback(String answer, String guess) {
+        Hint[] hints = new Hint[answer.length()];
+        int[] counts = new int[26];
+        for (int i = 0; i < answer.length(); i++) {
+            if (answer.charAt(i) == guess.charAt(i)) {
+                hints[i] = Hint.GREEN;
+            } else {
+                counts[answer.charAt(i) - 'A']++;
+            }
+        }
+        for (int i = 0; i < answer.length(); i++) {
+            if (hints[i] == null) {
+                hints[i] = counts[guess.charAt(i) - 'A']-- > 0 ? Hint.YELLOW : Hint.ABSENT;
+            }
+        }
+        return List.of(hints);
+    }
+
+    private static void fillWord(char[] word, int index, String alphabet) {
+        for (int i = 0; i < word.length; i++) {
+            word[i] = alphabet.charAt(index % alphabet.length());
+            index /= alphabet.length();
+        }
+    }
+
 } 
\ No newline at end of file
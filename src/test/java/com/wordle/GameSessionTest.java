@@ -0,0 +1,98 @@
+package com.wordle;
+
+import com.wordle.exception.InvalidGuessException;
+import com.wordle.metrics.Metrics;
+import com.wordle.utils.ConstraintIndex;
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.WordValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameSession class.
+ */
+class GameSessionTest {
+    private static final ConstraintIndex INDEX = new ConstraintIndex(List.of("WATER", "LATER", "OTTER", "BANAL"));
+
+    @Test
+    void testSolvedGame() {
+        GameSession session = new GameSession(INDEX, 0, 5);
+        assertEquals(FeedbackCalculator.computeFeedback("WATER", "OTTER"), FeedbackCalculator.decode(session.guess("OTTER")));
+        assertEquals(2, session.remainingCandidates());
+        assertEquals(FeedbackCalculator.ALL_GREEN, session.guess("WATER"));
+        assertEquals(GameSession.Status.SOLVED, session.status());
+        assertEquals(2, session.attempts());
+        assertThrows(IllegalStateException.class, () -> session.guess("LATER"));
+    }
+
+    @Test
+    void testFailedGame() {
+        GameSession session = new GameSession(INDEX, 3, 2);
+        session.guess("WATER");
+        assertFalse(session.isOver());
+        session.guess("OTTER");
+        assertEquals(GameSession.Status.FAILED, session.status());
+        assertEquals("BANAL", session.answer());
+    }
+
+    @Test
+    void testHardMode() {
+        GameSession session = new GameSession(INDEX, 1, 5, true);
+        assertTrue(session.isHardMode());
+        assertEquals("Not in word list", session.rejectReason("TATER"));
+        assertThrows(InvalidGuessException.class, () -> session.guess("TATER"));
+        assertEquals(0, session.attempts());
+
+        session.guess("WATER");
+        assertEquals("2nd letter must be A", session.rejectReason("OTTER"));
+        assertNull(session.rejectReason("LATER"));
+        assertEquals(FeedbackCalculator.ALL_GREEN, session.guess("LATER"));
+    }
+
+    @Test
+    void testNormalModeAllowsAnyWord() {
+        GameSession session = new GameSession(INDEX, 1, 5);
+        assertNull(session.rejectReason("TATER"));
+        session.guess("TATER");
+        assertEquals(1, session.attempts());
+    }
+
+    @Test
+    void testNormalizeGuess() {
+        assertEquals("WATER", GameSession.normalizeGuess("  water "));
+        assertNull(GameSession.normalizeGuess("wat3r"));
+        assertNull(GameSession.normalizeGuess("waters"));
+        assertNull(GameSession.normalizeGuess(null));
+    }
+
+    @Test
+    void testPackedGuessMatchesString() {
+        long packed = GameSession.parseGuess("  otter ", 5);
+        assertEquals(FeedbackCalculator.pack("OTTER"), packed);
+        assertEquals(WordValidator.INVALID, GameSession.parseGuess("ott3r", 5));
+        assertEquals(WordValidator.INVALID, GameSession.parseGuess(null, 5));
+
+        GameSession byString = new GameSession(INDEX, 0, 5, true);
+        GameSession byPacked = new GameSession(INDEX, 0, 5, true);
+        assertEquals(byString.guess("OTTER"), byPacked.guess(packed));
+        assertEquals(byString.remainingCandidates(), byPacked.remainingCandidates());
+        assertEquals(byString.rejectReason("BANAL"), byPacked.rejectReason(FeedbackCalculator.pack("BANAL")));
+        assertNotNull(byPacked.rejectReason(FeedbackCalculator.pack("BANAL")));
+
+        assertThrows(IllegalArgumentException.class, () -> byPacked.guess(WordValidator.INVALID));
+        assertThrows(IllegalArgumentException.class, () -> byPacked.guess(31L));
+        assertEquals(1, byPacked.attempts());
+    }
+
+    @Test
+    void testRecordsFeedbackLatency() {
+        long before = Metrics.feedback().snapshot().count();
+        GameSession session = new GameSession(INDEX, 0, 5);
+        session.guess("OTTER");
+        session.guess("WATER");
+        assertEquals(before + 2, Metrics.feedback().snapshot().count());
+    }
+}
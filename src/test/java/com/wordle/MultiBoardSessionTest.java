@@ -0,0 +1,85 @@
+package com.wordle;
+
+import com.wordle.metrics.Metrics;
+import com.wordle.utils.ConstraintIndex;
+import com.wordle.utils.FeedbackCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MultiBoardSession class.
+ */
+class MultiBoardSessionTest {
+    private static final ConstraintIndex INDEX = new ConstraintIndex(List.of("WATER", "LATER", "OTTER", "BANAL"));
+
+    @Test
+    void testGuessScoresEveryBoard() {
+        MultiBoardSession session = new MultiBoardSession(INDEX, new int[] {0, 2, 3}, 9);
+        int[] codes = session.guess("LATER");
+
+        assertEquals(FeedbackCalculator.encodeHints(FeedbackCalculator.computeFeedback("WATER", "LATER")), codes[0]);
+        assertEquals(FeedbackCalculator.encodeHints(FeedbackCalculator.computeFeedback("OTTER", "LATER")), codes[1]);
+        assertEquals(FeedbackCalculator.encodeHints(FeedbackCalculator.computeFeedback("BANAL", "LATER")), codes[2]);
+        assertEquals(1, session.remainingCandidates(0));
+        assertEquals(1, session.remainingCandidates(1));
+        assertEquals(1, session.remainingCandidates(2));
+        assertEquals(3, session.unsolvedCandidates().size());
+    }
+
+    @Test
+    void testSolvedBoardsAreSkipped() {
+        MultiBoardSession session = new MultiBoardSession(INDEX, new int[] {0, 1}, 9);
+        assertEquals(FeedbackCalculator.ALL_GREEN, session.guess("WATER")[0]);
+        assertTrue(session.isSolved(0));
+        assertFalse(session.isSolved(1));
+        assertEquals(1, session.solvedAt(0));
+
+        int[] codes = session.guess("LATER");
+        assertEquals(MultiBoardSession.SOLVED_BEFORE, codes[0]);
+        assertEquals(FeedbackCalculator.ALL_GREEN, codes[1]);
+        assertEquals(GameSession.Status.SOLVED, session.status());
+        assertEquals(2, session.attempts());
+        assertThrows(IllegalStateException.class, () -> session.guess("OTTER"));
+    }
+
+    @Test
+    void testSameAnswerOnTwoBoards() {
+        MultiBoardSession session = new MultiBoardSession(INDEX, new int[] {2, 2}, 9);
+        int[] codes = session.guess("OTTER");
+        assertArrayEquals(new int[] {FeedbackCalculator.ALL_GREEN, FeedbackCalculator.ALL_GREEN}, codes);
+        assertEquals(GameSession.Status.SOLVED, session.status());
+    }
+
+    @Test
+    void testFailedWhenAnyBoardUnsolved() {
+        MultiBoardSession session = new MultiBoardSession(INDEX, new int[] {0, 3}, 2);
+        session.guess("WATER");
+        session.guess("OTTER");
+        assertEquals(GameSession.Status.FAILED, session.status());
+        assertTrue(session.isSolved(0));
+        assertEquals("BANAL", session.answer(1));
+    }
+
+    @Test
+    void testAbandonEndsGameOnce() {
+        long inProgress = Metrics.gamesInProgress();
+        MultiBoardSession session = new MultiBoardSession(INDEX, new int[] {0, 3}, 9);
+        assertEquals(inProgress + 1, Metrics.gamesInProgress());
+        session.guess("WATER");
+        session.abandon();
+        session.abandon();
+        assertEquals(GameSession.Status.INTERRUPTED, session.status());
+        assertEquals(1, session.attempts());
+        assertEquals(inProgress, Metrics.gamesInProgress());
+        assertThrows(IllegalStateException.class, () -> session.guess("BANAL"));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MultiBoardSession(INDEX, new int[0], 9));
+        assertThrows(IllegalArgumentException.class, () -> new MultiBoardSession(INDEX, new int[] {0}, 0));
+    }
+}
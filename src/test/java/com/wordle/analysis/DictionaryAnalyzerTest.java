@@ -0,0 +1,107 @@
+package com.wordle.analysis;
+
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.WordStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DictionaryAnalyzer class.
+ */
+class DictionaryAnalyzerTest {
+    private static final WordStore WORDS = WordStore.of(List.of("WATER", "LATER", "OTTER", "BANAL", "RADAR", "CHALK"));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testLetterCounts() {
+        DictionaryReport report = analyze(WORDS);
+        assertEquals(7, report.occurrences()['A' - 'A']);
+        assertEquals(5, report.wordsWithLetter()['A' - 'A']);
+        assertEquals(4, report.occurrences()['T' - 'A']);
+        assertEquals(3, report.wordsWithLetter()['T' - 'A']);
+        assertEquals(4, report.positionCount(1, 'A' - 'A'));
+        assertEquals(1, report.positionCount(0, 'O' - 'A'));
+        assertEquals(0, report.occurrences()['Z' - 'A']);
+        // OTTER, BANAL and RADAR repeat a letter
+        assertEquals(3, report.duplicateWords());
+        assertEquals(0.5, report.duplicateRate(), 1e-9);
+    }
+
+    @Test
+    void testOpeningStatisticsMatchBruteForce() {
+        DictionaryReport report = analyze(WORDS);
+        for (int g = 0; g < WORDS.size(); g++) {
+            Map<Integer, Integer> buckets = new HashMap<>();
+            for (int a = 0; a < WORDS.size(); a++) {
+                buckets.merge(FeedbackCalculator.computeFeedbackCode(WORDS.packed(a), WORDS.packed(g)), 1, Integer::sum);
+            }
+            int worst = buckets.values().stream().mapToInt(Integer::intValue).max().orElseThrow();
+            double average = buckets.values().stream().mapToDouble(c -> (double) c * c).sum() / WORDS.size();
+            assertEquals(worst, report.worst()[g], WORDS.get(g));
+            assertEquals(average, report.average()[g], 1e-9, WORDS.get(g));
+        }
+        int best = report.bestOpeners(1)[0];
+        for (int g = 0; g < WORDS.size(); g++) {
+            assertTrue(report.average()[best] <= report.average()[g]);
+        }
+    }
+
+    @Test
+    void testWritesCsv() throws IOException {
+        Path file = tempDir.resolve("report.csv");
+        analyze(WORDS).write(file);
+
+        List<String> rows = Files.readAllLines(file);
+        assertEquals("word,repeated_letter,worst_remaining,average_remaining", rows.get(0));
+        assertEquals(WORDS.size() + 1, rows.size());
+        assertTrue(rows.get(3).startsWith("OTTER,true,"), rows.get(3));
+
+        List<String> letters = Files.readAllLines(tempDir.resolve("report-letters.csv"));
+        assertEquals("letter,occurrences,words,position_1,position_2,position_3,position_4,position_5", letters.get(0));
+        assertEquals("A,7,5,0,4,1,2,0", letters.get(1));
+        assertEquals(27, letters.size());
+    }
+
+    @Test
+    void testWritesJson() throws IOException {
+        Path file = tempDir.resolve("report.json");
+        analyze(WORDS).write(file);
+
+        String json = Files.readString(file);
+        assertTrue(json.startsWith("{\n  \"words\": 6,"), json);
+        assertTrue(json.contains("{\"letter\": \"A\", \"occurrences\": 7, \"words\": 5, \"byPosition\": [0, 4, 1, 2, 0]}"), json);
+        assertTrue(json.contains("{\"word\": \"OTTER\", \"repeatedLetter\": true,"), json);
+        assertTrue(json.trim().endsWith("]\n}"), json);
+        assertFalse(Files.exists(tempDir.resolve("report-letters.json")));
+    }
+
+    @Test
+    void testOtherWordLength() {
+        WordStore words = WordStore.of(List.of("BOOK", "COOK", "LOOK", "HOOD"), 4);
+        DictionaryReport report = analyze(words);
+        assertEquals(4, report.duplicateWords());
+        assertEquals(4, report.positionCount(1, 'O' - 'A'));
+        assertTrue(report.format(2).contains("Best openers:"));
+    }
+
+    private static DictionaryReport analyze(WordStore words) {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            return new DictionaryAnalyzer(words, pool).analyze();
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
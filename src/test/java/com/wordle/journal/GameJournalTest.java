@@ -0,0 +1,188 @@
+package com.wordle.journal;
+
+import com.wordle.GameSession;
+import com.wordle.metrics.Metrics;
+import com.wordle.utils.ConstraintIndex;
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.WordStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameJournal and JournalReplay classes.
+ */
+class GameJournalTest {
+    private static final WordStore WORDS = WordStore.of(List.of("WATER", "LATER", "OTTER", "BANAL"));
+    private static final ConstraintIndex INDEX = new ConstraintIndex(WORDS);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReplayCountsFinishedAndUnfinishedGames() {
+        Path file = tempDir.resolve("games.journal");
+        try (GameJournal journal = GameJournal.open(file, WORDS)) {
+            GameSession solved = new GameSession(INDEX, 0, 5, false, journal);
+            solved.guess("OTTER");
+            solved.guess("WATER");
+            GameSession failed = new GameSession(INDEX, 3, 1, false, journal);
+            failed.guess("WATER");
+            GameSession abandoned = new GameSession(INDEX, 1, 5, true, journal);
+            abandoned.guess("OTTER");
+            abandoned.abandon();
+            new GameSession(INDEX, 2, 5, false, journal).guess("BANAL");
+        }
+
+        JournalReplay replay = JournalReplay.read(file, WORDS);
+        assertEquals(12, replay.events());
+        assertEquals(4, replay.games());
+        assertEquals(1, replay.histogram()[0]);
+        assertEquals(1, replay.histogram()[2]);
+        assertEquals(2, replay.unfinished().size());
+
+        JournalReplay.OpenSession interrupted = replay.unfinished().get(0);
+        assertEquals(1, interrupted.answer());
+        assertTrue(interrupted.hardMode());
+        assertArrayEquals(new long[] {FeedbackCalculator.pack("OTTER")}, interrupted.guesses());
+        assertEquals(2, replay.unfinished().get(1).answer());
+    }
+
+    @Test
+    void testResumeRebuildsSessionAndEndsIt() {
+        Path file = tempDir.resolve("games.journal");
+        int remaining;
+        try (GameJournal journal = GameJournal.open(file, WORDS)) {
+            GameSession session = new GameSession(INDEX, 1, 5, true, journal);
+            session.guess("OTTER");
+            remaining = session.remainingCandidates();
+        }
+
+        JournalReplay.OpenSession open = JournalReplay.read(file, WORDS).latestUnfinished(GameJournal.Origin.INTERACTIVE).orElseThrow();
+        try (GameJournal journal = GameJournal.open(file, WORDS)) {
+            long started = Metrics.gamesStarted();
+            long resumedBefore = Metrics.gamesResumed();
+            GameSession resumed = GameSession.resume(INDEX, open, journal);
+            assertEquals(started, Metrics.gamesStarted());
+            assertEquals(resumedBefore + 1, Metrics.gamesResumed());
+            assertEquals(open.sessionId(), resumed.sessionId());
+            assertEquals(1, resumed.attempts());
+            assertEquals(remaining, resumed.remainingCandidates());
+            assertNotNull(resumed.rejectReason("BANAL"));
+            resumed.guess("LATER");
+            assertEquals(GameSession.Status.SOLVED, resumed.status());
+        }
+
+        JournalReplay replay = JournalReplay.read(file, WORDS);
+        assertTrue(replay.unfinished().isEmpty());
+        assertEquals(1, replay.histogram()[2]);
+    }
+
+    @Test
+    void testResumesOnlyInteractiveGamesThatWerePlayed() throws InterruptedException {
+        Path file = tempDir.resolve("games.journal");
+        try (GameJournal journal = GameJournal.open(file, WORDS)) {
+            GameSession local = new GameSession(INDEX, 1, 5, false, journal);
+            local.guess("OTTER");
+            local.abandon();
+            Thread.sleep(5);
+            GameSession served = new GameSession(INDEX, 0, 5, false, journal, GameJournal.Origin.SERVED);
+            served.guess("OTTER");
+            served.abandon();
+            new GameSession(INDEX, 3, 5, false, journal).abandon();
+        }
+
+        JournalReplay replay = JournalReplay.read(file, WORDS);
+        // the game abandoned before its first guess is dropped
+        assertEquals(2, replay.unfinished().size());
+        assertEquals(GameJournal.Origin.SERVED, replay.unfinished().get(1).origin());
+        assertEquals(1, replay.latestUnfinished(GameJournal.Origin.INTERACTIVE).orElseThrow().answer());
+        assertEquals(0, replay.latestUnfinished(GameJournal.Origin.SERVED).orElseThrow().answer());
+    }
+
+    @Test
+    void testSessionIdsContinueAfterReopen() {
+        Path file = tempDir.resolve("games.journal");
+        long first;
+        try (GameJournal journal = GameJournal.open(file, WORDS)) {
+            first = journal.startSession(0, 5, false);
+            journal.startSession(1, 5, false);
+            journal.guess(first, 0, FeedbackCalculator.pack("OTTER"), 0);
+        }
+        try (GameJournal journal = GameJournal.open(file, WORDS)) {
+            assertEquals(first + 2, journal.startSession(2, 5, false));
+        }
+    }
+
+    @Test
+    void testRecordCutShortIsDropped() throws IOException {
+        Path file = tempDir.resolve("games.journal");
+        try (GameJournal journal = GameJournal.open(file, WORDS)) {
+            journal.startSession(0, 5, false);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(GameJournal.RECORD_SIZE / 2));
+        }
+        assertEquals(1, JournalReplay.read(file, WORDS).events());
+
+        try (GameJournal journal = GameJournal.open(file, WORDS)) {
+            journal.startSession(1, 5, false);
+        }
+        assertEquals(GameJournal.HEADER_SIZE + 2 * GameJournal.RECORD_SIZE, Files.size(file));
+        assertEquals(2, JournalReplay.read(file, WORDS).unfinished().size());
+    }
+
+    @Test
+    void testOtherWordListRejected() {
+        Path file = tempDir.resolve("games.journal");
+        GameJournal.open(file, WORDS).close();
+        WordStore other = WordStore.of(List.of("LATER", "WATER", "OTTER", "BANAL"));
+        assertThrows(IllegalStateException.class, () -> GameJournal.open(file, other));
+        assertThrows(IllegalStateException.class, () -> JournalReplay.read(file, other));
+    }
+
+    @Test
+    void testConcurrentAppendsAreAllWritten() throws InterruptedException {
+        Path file = tempDir.resolve("games.journal");
+        int threads = 8;
+        int gamesPerThread = 5_000;
+        try (GameJournal journal = GameJournal.open(file, WORDS)) {
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Thread worker = new Thread(() -> {
+                    for (int i = 0; i < gamesPerThread; i++) {
+                        long id = journal.startSession(i % 4, 5, false);
+                        journal.guess(id, i % 4, FeedbackCalculator.pack("OTTER"), 0);
+                        journal.end(id, i % 4, GameSession.Status.FAILED);
+                    }
+                });
+                worker.start();
+                workers.add(worker);
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            journal.sync();
+            assertEquals(GameJournal.HEADER_SIZE + 3L * threads * gamesPerThread * GameJournal.RECORD_SIZE,
+                    assertDoesNotThrow(() -> Files.size(file)));
+            assertThrows(IllegalStateException.class, () -> {
+                journal.close();
+                journal.startSession(0, 5, false);
+            });
+        }
+
+        JournalReplay replay = JournalReplay.read(file, WORDS);
+        assertEquals(threads * gamesPerThread, replay.histogram()[0]);
+        assertTrue(replay.unfinished().isEmpty());
+    }
+}
@@ -0,0 +1,105 @@
+package com.wordle.metrics;
+
+import com.wordle.utils.WordStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameStatistics class.
+ */
+class GameStatisticsTest {
+    private static final WordStore WORDS = WordStore.of(List.of("WATER", "LATER", "OTTER", "BANAL"));
+
+    @Test
+    void testRecordsGames() {
+        GameStatistics statistics = new GameStatistics(WORDS, 6, 4);
+        statistics.record(0, 2, 3, true);
+        statistics.record(0, 2, 6, false);
+        statistics.record(1, 2, 1, true);
+        statistics.record(3, -1, 4, true);
+
+        GameStatistics.Snapshot snapshot = statistics.snapshot();
+        assertEquals(4, snapshot.games());
+        assertEquals(3, snapshot.wins());
+        assertArrayEquals(new long[]{1, 1, 0, 1, 1, 0, 0}, snapshot.histogram());
+        assertArrayEquals(new long[]{2, 1, 0, 1}, snapshot.played());
+        assertArrayEquals(new long[]{1, 1, 0, 1}, snapshot.solved());
+        assertEquals(0.5, snapshot.solveRate(0), 1e-9);
+        assertEquals(0, snapshot.solveRate(2));
+        assertEquals(1, snapshot.unlistedFirstGuesses());
+        assertArrayEquals(new int[]{2}, snapshot.topFirstGuesses(3));
+        assertArrayEquals(new int[]{0, 1}, snapshot.hardestAnswers(2, 1));
+        assertArrayEquals(new int[]{0}, snapshot.hardestAnswers(5, 2));
+    }
+
+    @Test
+    void testRejectsOutOfRangeGames() {
+        GameStatistics statistics = new GameStatistics(WORDS, 6);
+        assertThrows(IllegalArgumentException.class, () -> statistics.record(4, 0, 1, true));
+        assertThrows(IllegalArgumentException.class, () -> statistics.record(0, -2, 1, true));
+        assertThrows(IllegalArgumentException.class, () -> statistics.record(0, 0, 7, false));
+        assertThrows(IllegalArgumentException.class, () -> statistics.record(0, 0, 0, false));
+        assertEquals(0, statistics.snapshot().games());
+    }
+
+    @Test
+    void testStripesAreRoundedToPowerOfTwo() {
+        assertEquals(1, new GameStatistics(WORDS, 6, 1).stripes());
+        assertEquals(8, new GameStatistics(WORDS, 6, 5).stripes());
+        assertEquals(16, new GameStatistics(WORDS, 6, 64).stripes());
+    }
+
+    @Test
+    void testConcurrentWritersAreAllCounted() throws InterruptedException {
+        GameStatistics statistics = new GameStatistics(WORDS, 6, 8);
+        int threads = 8;
+        int gamesPerThread = 10_000;
+        AtomicBoolean consistent = new AtomicBoolean(true);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < gamesPerThread; i++) {
+                    statistics.record(i % WORDS.size(), 0, i % 6 + 1, i % 3 != 0);
+                    if (i % 1000 == 0) {
+                        GameStatistics.Snapshot snapshot = statistics.snapshot();
+                        for (int w = 0; w < WORDS.size(); w++) {
+                            if (snapshot.solved()[w] > snapshot.played()[w]) {
+                                consistent.set(false);
+                            }
+                        }
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        assertTrue(consistent.get(), "a snapshot counted more solves than plays");
+
+        GameStatistics.Snapshot snapshot = statistics.snapshot();
+        assertEquals((long) threads * gamesPerThread, snapshot.games());
+        assertEquals((long) threads * gamesPerThread, snapshot.firstGuesses()[0]);
+        long played = 0;
+        for (long count : snapshot.played()) {
+            played += count;
+        }
+        assertEquals(snapshot.games(), played);
+    }
+
+    @Test
+    void testFormat() {
+        GameStatistics statistics = new GameStatistics(WORDS, 6);
+        statistics.record(0, 2, 3, true);
+        statistics.record(3, 2, 6, false);
+        String report = statistics.snapshot().format(5);
+        assertTrue(report.startsWith("Games: 2, win rate: 50.00%"), report);
+        assertTrue(report.contains("Top first guesses: OTTER=2"), report);
+        assertTrue(report.contains("Hardest answers: BANAL=0/1 WATER=1/1"), report);
+    }
+}
@@ -0,0 +1,42 @@
+package com.wordle.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the LatencyHistogram class.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void testBucketBoundsAreMonotonic() {
+        long previous = -1;
+        for (long value = 0; value < 100_000; value++) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            long lower = LatencyHistogram.lowerBoundOf(bucket);
+            assertTrue(lower <= value, "lower bound above value " + value);
+            assertTrue(value - lower <= Math.max(1, value / 8), "bucket too wide for " + value);
+            assertTrue(lower >= previous);
+            previous = lower;
+        }
+        assertTrue(LatencyHistogram.bucketOf(Long.MAX_VALUE) >= 0);
+    }
+
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(1000, snapshot.count());
+        assertEquals(1_000_000, snapshot.maxNanos());
+        assertEquals(500_500.0, snapshot.meanNanos(), 1e-6);
+        long p50 = snapshot.percentileNanos(50);
+        assertTrue(p50 > 500_000 * 7 / 8 && p50 <= 500_000, "p50 " + p50);
+        long p99 = snapshot.percentileNanos(99);
+        assertTrue(p99 > 990_000 * 7 / 8 && p99 <= 990_000, "p99 " + p99);
+    }
+}
@@ -0,0 +1,75 @@
+package com.wordle.render;
+
+import com.wordle.Hint;
+import com.wordle.utils.FeedbackCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TerminalRenderer class.
+ */
+class TerminalRendererTest {
+    private static final String GREEN = "\u001B[42m";
+    private static final String YELLOW = "\u001B[43m";
+    private static final String RESET = "\u001B[0m";
+
+    @Test
+    void testFeedbackRowMatchesColoredTiles() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TerminalRenderer renderer = new TerminalRenderer(Channels.newChannel(out), 5);
+        int code = FeedbackCalculator.encodeHints(List.of(Hint.GREEN, Hint.ABSENT, Hint.YELLOW, Hint.ABSENT, Hint.GREEN));
+
+        renderer.feedback("WATER", code);
+        renderer.feedback("OTTER", code);
+        assertEquals(0, out.size());
+        renderer.flush();
+
+        String row = GREEN + " W " + RESET + " A " + YELLOW + " T " + RESET + " E " + GREEN + " R " + RESET + "\n";
+        String other = GREEN + " O " + RESET + " T " + YELLOW + " T " + RESET + " E " + GREEN + " R " + RESET + "\n";
+        assertEquals(row + other, out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void testFrameIsWrittenOnFlush() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TerminalRenderer renderer = new TerminalRenderer(Channels.newChannel(out), 6);
+
+        renderer.bytes("banner\n".getBytes(StandardCharsets.US_ASCII));
+        renderer.line("Guess the 6-letter word in 5 tries.");
+        renderer.text("Attempt 1/5: ");
+        renderer.feedback("ORANGE", 0);
+        renderer.text("café");
+        renderer.flush();
+        renderer.flush();
+
+        assertEquals("banner\nGuess the 6-letter word in 5 tries.\nAttempt 1/5:  O  R  A  N  G  E \ncafé",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testFramesLargerThanBuffer() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TerminalRenderer renderer = new TerminalRenderer(Channels.newChannel(out), 5);
+        String line = "x".repeat(5000);
+
+        renderer.line(line);
+        renderer.bytes(line.getBytes(StandardCharsets.US_ASCII));
+        renderer.bytes(new byte[20000]);
+        renderer.flush();
+
+        assertEquals(5001 + 5000 + 20000, out.size());
+        assertTrue(out.toString(StandardCharsets.US_ASCII).startsWith(line + "\n" + line));
+    }
+
+    @Test
+    void testWrongGuessLengthRejected() {
+        TerminalRenderer renderer = new TerminalRenderer(Channels.newChannel(new ByteArrayOutputStream()), 5);
+        assertThrows(IllegalArgumentException.class, () -> renderer.feedback("ORANGE", 0));
+    }
+}
@@ -0,0 +1,120 @@
+package com.wordle.server;
+
+import com.wordle.utils.ConstraintIndex;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the GameServer class on localhost.
+ */
+class GameServerTest {
+
+    @Test
+    void testPlaysGameOverSocket() throws Exception {
+        try (GameServer server = GameServer.builder(new ConstraintIndex(List.of("WATER"))).bind()) {
+            server.start();
+            try (Socket socket = new Socket("localhost", server.port());
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                 PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+                assertEquals("WELCOME 5 5", in.readLine());
+                out.println("ab1");
+                assertEquals("INVALID", in.readLine());
+                out.println("otter");
+                assertEquals("FEEDBACK ..GGG 1", in.readLine());
+                out.println("WATER");
+                assertEquals("SOLVED GGGGG 2", in.readLine());
+                out.println("OTTER");
+                assertEquals("FEEDBACK ..GGG 1", in.readLine());
+                out.println("QUIT");
+                assertEquals("BYE", in.readLine());
+            }
+        }
+    }
+
+    @Test
+    void testHardModeRejectsGuess() throws Exception {
+        try (GameServer server = GameServer.builder(new ConstraintIndex(List.of("WATER"))).hardMode(true).bind()) {
+            server.start();
+            try (Socket socket = new Socket("localhost", server.port());
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                 PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+                assertEquals("WELCOME 5 5", in.readLine());
+                out.println("otter");
+                assertEquals("INVALID Not in word list", in.readLine());
+                out.println("water");
+                assertEquals("SOLVED GGGGG 1", in.readLine());
+            }
+        }
+    }
+
+    @Test
+    void testLoadGeneratorAgainstConcurrentSessions() throws Exception {
+        try (GameServer server = GameServer.builder(new ConstraintIndex(List.of("WATER", "OTTER", "BANAL"))).bind()) {
+            server.start();
+            LoadGenerator.Result result = LoadGenerator.run("localhost", server.port(), 32, 50, 200);
+
+            assertEquals(32 * 50, result.requests());
+            assertTrue(result.p50Nanos() <= result.p99Nanos());
+            assertTrue(result.p99Nanos() <= result.maxNanos());
+        }
+    }
+
+    @Test
+    void testClosesConnectionOnOverlongLine() throws Exception {
+        try (GameServer server = GameServer.builder(new ConstraintIndex(List.of("WATER"))).bind()) {
+            server.start();
+            try (Socket socket = new Socket("localhost", server.port());
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                 PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+                assertEquals("WELCOME 5 5", in.readLine());
+                out.println("A".repeat(10_000));
+                assertEquals("INVALID line too long", in.readLine());
+                assertNull(in.readLine());
+            }
+        }
+    }
+
+    @Test
+    void testReadLineIsBounded() throws Exception {
+        StringBuilder buffer = new StringBuilder();
+        StringReader in = new StringReader("water\r\notter\n" + "x".repeat(100) + "\nlast");
+        assertEquals("water", GameServer.readLine(in, buffer));
+        assertEquals("otter", GameServer.readLine(in, buffer));
+        assertEquals(GameServer.MAX_LINE_LENGTH + 1, GameServer.readLine(in, buffer).length());
+        in = new StringReader("last");
+        assertEquals("last", GameServer.readLine(in, buffer));
+        assertNull(GameServer.readLine(in, buffer));
+
+        String longest = "x".repeat(GameServer.MAX_LINE_LENGTH);
+        in = new StringReader(longest + "\r\n" + longest + "\rx\n");
+        assertEquals(longest, GameServer.readLine(in, buffer));
+        assertTrue(GameServer.readLine(in, buffer).length() > GameServer.MAX_LINE_LENGTH);
+    }
+
+    @Test
+    void testAcceptsLongestLineWithCrlf() throws Exception {
+        try (GameServer server = GameServer.builder(new ConstraintIndex(List.of("WATER"))).bind()) {
+            server.start();
+            try (Socket socket = new Socket("localhost", server.port());
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                 PrintWriter out = new PrintWriter(socket.getOutputStream(), false, StandardCharsets.US_ASCII)) {
+                assertEquals("WELCOME 5 5", in.readLine());
+                out.print("A".repeat(GameServer.MAX_LINE_LENGTH) + "\r\n");
+                out.flush();
+                assertEquals("INVALID", in.readLine());
+                out.print("water\r\n");
+                out.flush();
+                assertEquals("SOLVED GGGGG 1", in.readLine());
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.wordle.simulation;
+
+import com.wordle.solver.EntropySolver;
+import com.wordle.solver.EntropyStrategy;
+import com.wordle.solver.FirstCandidateStrategy;
+import com.wordle.utils.ConstraintIndex;
+import com.wordle.utils.FeedbackMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Simulator class.
+ */
+class SimulatorTest {
+    private static final List<String> WORDS = List.of(
+            "WATER", "LATER", "HATER", "CATER", "OTTER", "CHALK", "WHELP", "BANAL", "RADAR", "BOOKS");
+
+    @Test
+    void testEveryAnswerIsPlayedOnce() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ConstraintIndex index = new ConstraintIndex(WORDS);
+            SimulationReport report = new Simulator(index, 5, pool).run(new FirstCandidateStrategy());
+
+            assertEquals(WORDS.size(), report.games());
+            assertEquals(6, report.histogram().length);
+            assertEquals(1, report.histogram()[1]);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testEntropyStrategySolvesSmallList() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ConstraintIndex index = new ConstraintIndex(WORDS);
+            EntropyStrategy strategy = new EntropyStrategy(new EntropySolver(WORDS, pool), index.newCandidateSet());
+            SimulationReport report = new Simulator(index, 5, pool).run(strategy);
+
+            assertEquals(1.0, report.winRate());
+            assertTrue(report.averageGuesses() >= 1 && report.averageGuesses() <= 5);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testMatrixPlaysTheSameGames() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ConstraintIndex index = new ConstraintIndex(WORDS);
+            FeedbackMatrix matrix = FeedbackMatrix.compute(WORDS);
+            SimulationReport computed = new Simulator(index, 5, pool)
+                    .run(new EntropyStrategy(new EntropySolver(WORDS, pool), index.newCandidateSet()));
+            SimulationReport lookedUp = new Simulator(index, 5, pool, matrix)
+                    .run(new EntropyStrategy(new EntropySolver(WORDS, pool, matrix), index.newCandidateSet()));
+
+            assertArrayEquals(computed.histogram(), lookedUp.histogram());
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Simulator(index, 5, pool, FeedbackMatrix.compute(WORDS.subList(1, WORDS.size()))));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.wordle.solver;
+
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.WordStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DecisionTree class.
+ */
+class DecisionTreeTest {
+    private static final List<String> WORDS = List.of("WATER", "LATER", "HATER", "CATER", "OTTER", "CHALK", "WHELP",
+            "BANAL", "RADAR", "BOOKS");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testEveryAnswerIsSolved() {
+        DecisionTree tree = DecisionTree.compile(new EntropySolver(WORDS));
+        assertSolvesEveryAnswer(tree);
+    }
+
+    @Test
+    void testRootIsSolverFirstGuess() {
+        EntropySolver solver = new EntropySolver(WORDS);
+        DecisionTree tree = DecisionTree.compile(solver);
+        int[] all = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        assertEquals(solver.bestGuess(all, all.length), tree.guess(DecisionTree.ROOT));
+    }
+
+    @Test
+    void testUnreachableFeedbackHasNoChild() {
+        DecisionTree tree = DecisionTree.compile(new EntropySolver(WORDS));
+        int allGreen = FeedbackCalculator.allGreen(5);
+        assertEquals(DecisionTree.NO_NODE, tree.child(DecisionTree.ROOT, allGreen));
+    }
+
+    @Test
+    void testSaveAndLoadRoundTrip() {
+        Path file = tempDir.resolve("tree.bin");
+        DecisionTree compiled = DecisionTree.compile(new EntropySolver(WORDS));
+        compiled.save(file);
+
+        Optional<DecisionTree> loaded = DecisionTree.load(file, WordStore.of(WORDS));
+        assertTrue(loaded.isPresent());
+        assertEquals(compiled.sizeInInts(), loaded.get().sizeInInts());
+        for (int answer = 0; answer < WORDS.size(); answer++) {
+            assertEquals(compiled.depth(answer), loaded.get().depth(answer));
+        }
+    }
+
+    @Test
+    void testLoadRejectsOtherWordList() {
+        Path file = tempDir.resolve("tree.bin");
+        DecisionTree.compile(new EntropySolver(WORDS)).save(file);
+
+        List<String> reordered = List.of("LATER", "WATER", "HATER", "CATER", "OTTER", "CHALK", "WHELP",
+                "BANAL", "RADAR", "BOOKS");
+        assertTrue(DecisionTree.load(file, WordStore.of(reordered)).isEmpty());
+        assertTrue(DecisionTree.load(tempDir.resolve("missing.bin"), WordStore.of(WORDS)).isEmpty());
+    }
+
+    @Test
+    void testLoadOrCompileWritesTree() {
+        Path file = tempDir.resolve("tree.bin");
+        assertSolvesEveryAnswer(DecisionTree.loadOrCompile(file, new EntropySolver(WORDS)));
+        assertTrue(Files.isRegularFile(file));
+        assertSolvesEveryAnswer(DecisionTree.loadOrCompile(file, new EntropySolver(WORDS)));
+    }
+
+    private static void assertSolvesEveryAnswer(DecisionTree tree) {
+        for (int answer = 0; answer < WORDS.size(); answer++) {
+            int depth = tree.depth(answer);
+            assertTrue(depth >= 1 && depth <= WORDS.size(), WORDS.get(answer) + ": " + depth);
+        }
+        assertThrows(IllegalArgumentException.class, () -> tree.depth(-1));
+        assertThrows(IllegalArgumentException.class, () -> tree.depth(WORDS.size()));
+    }
+}
@@ -0,0 +1,89 @@
+package com.wordle.solver;
+
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.FeedbackMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EntropySolver class.
+ */
+class EntropySolverTest {
+    private static final List<String> WORDS = List.of("WATER", "LATER", "HATER", "CATER", "OTTER", "CHALK", "WHELP");
+
+    @Test
+    void testSingleCandidateIsGuessed() {
+        EntropySolver solver = new EntropySolver(WORDS);
+        assertEquals("OTTER", solver.bestGuess(List.of("OTTER")));
+    }
+
+    @Test
+    void testPrefersGuessThatSplitsCandidates() {
+        EntropySolver solver = new EntropySolver(WORDS);
+        // Every -ATER word gives the same feedback on its shared letters; WHELP separates
+        // W, H and L while CHALK separates C, H and L.
+        String guess = solver.bestGuess(List.of("WATER", "LATER", "HATER", "CATER"));
+        assertTrue(List.of("CHALK", "WHELP").contains(guess), guess);
+    }
+
+    @Test
+    void testMatrixPicksTheSameGuesses() {
+        EntropySolver computed = new EntropySolver(WORDS);
+        EntropySolver lookedUp = new EntropySolver(WORDS, ForkJoinPool.commonPool(), FeedbackMatrix.compute(WORDS));
+        int[][] candidateSets = {{0, 1, 2, 3}, {0, 1, 2, 3, 4, 5, 6}, {4, 5, 6}, {0, 2, 5}};
+        for (int[] candidates : candidateSets) {
+            assertEquals(computed.bestGuess(candidates, candidates.length), lookedUp.bestGuess(candidates, candidates.length));
+        }
+        for (int answer = 0; answer < WORDS.size(); answer++) {
+            assertEquals(computed.feedbackCode(answer, 5), lookedUp.feedbackCode(answer, 5));
+        }
+    }
+
+    @Test
+    void testExpectedInformationOfPerfectSplit() {
+        EntropySolver solver = new EntropySolver(WORDS);
+        long[] candidates = {
+                FeedbackCalculator.pack("WATER"), FeedbackCalculator.pack("LATER"),
+                FeedbackCalculator.pack("HATER"), FeedbackCalculator.pack("CATER")};
+        assertEquals(2.0, solver.expectedInformation(WORDS.indexOf("CHALK"), candidates, 4), 1e-9);
+        assertEquals(0.0, solver.expectedInformation(WORDS.indexOf("OTTER"), candidates, 4), 1e-9);
+    }
+
+    @Test
+    void testCombinedGuessSumsInformationOverBoards() {
+        EntropySolver solver = new EntropySolver(WORDS);
+        long[] ater = {
+                FeedbackCalculator.pack("WATER"), FeedbackCalculator.pack("LATER"),
+                FeedbackCalculator.pack("HATER"), FeedbackCalculator.pack("CATER")};
+        long[] other = {FeedbackCalculator.pack("CHALK"), FeedbackCalculator.pack("WHELP"), FeedbackCalculator.pack("OTTER")};
+        int guess = solver.bestCombinedGuess(new long[][] {ater, other}, new int[] {4, 3});
+
+        double best = solver.expectedInformation(guess, ater, 4) + solver.expectedInformation(guess, other, 3);
+        for (int g = 0; g < WORDS.size(); g++) {
+            double information = solver.expectedInformation(g, ater, 4) + solver.expectedInformation(g, other, 3);
+            assertTrue(information <= best + 1e-9, WORDS.get(g));
+        }
+        assertEquals(solver.bestGuess(ater, 4), solver.bestCombinedGuess(new long[][] {ater}, new int[] {4}));
+    }
+
+    @Test
+    void testCombinedGuessSolvesBoardWithOneCandidate() {
+        EntropySolver solver = new EntropySolver(WORDS);
+        long[] ater = {FeedbackCalculator.pack("WATER"), FeedbackCalculator.pack("LATER"), FeedbackCalculator.pack("HATER")};
+        long[] otter = {FeedbackCalculator.pack("OTTER")};
+        assertEquals(WORDS.indexOf("OTTER"), solver.bestCombinedGuess(new long[][] {ater, otter}, new int[] {3, 1}));
+        assertThrows(IllegalArgumentException.class, () -> solver.bestCombinedGuess(new long[0][], new int[0]));
+        long[] unlisted = {FeedbackCalculator.pack("ZZZZZ")};
+        assertThrows(IllegalArgumentException.class, () -> solver.bestCombinedGuess(new long[][] {ater, unlisted}, new int[] {3, 1}));
+    }
+
+    @Test
+    void testNoCandidatesRejected() {
+        EntropySolver solver = new EntropySolver(WORDS);
+        assertThrows(IllegalArgumentException.class, () -> solver.bestGuess(List.of()));
+    }
+}
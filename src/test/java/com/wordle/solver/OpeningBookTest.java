@@ -0,0 +1,104 @@
+package com.wordle.solver;
+
+import com.wordle.utils.CandidateSet;
+import com.wordle.utils.ConstraintIndex;
+import com.wordle.utils.FeedbackCalculator;
+import com.wordle.utils.WordStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the OpeningBook class.
+ */
+class OpeningBookTest {
+    private static final List<String> WORDS = List.of("WATER", "LATER", "HATER", "CATER", "OTTER", "CHALK", "WHELP",
+            "BANAL", "RADAR", "BOOKS");
+    private static final ConstraintIndex INDEX = new ConstraintIndex(WORDS);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCachesSolverAnswer() {
+        EntropySolver solver = new EntropySolver(WORDS);
+        OpeningBook book = new OpeningBook(solver, 64);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<CandidateSet> all = () -> {
+            calls.incrementAndGet();
+            return INDEX.newCandidateSet();
+        };
+
+        OpeningBook.Suggestion first = book.suggest(OpeningBook.ROOT, all);
+        int[] indices = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        assertEquals(solver.bestGuess(indices, indices.length), first.guess());
+        assertEquals(WORDS.size(), first.remaining());
+        assertEquals(first, book.suggest(OpeningBook.ROOT, all));
+        assertEquals(1, calls.get());
+        assertEquals(1, book.hits());
+        assertEquals(1, book.misses());
+        assertEquals(1, book.size());
+    }
+
+    @Test
+    void testStateFollowsGuessesAndFeedback() {
+        long water = FeedbackCalculator.pack("WATER");
+        long otter = FeedbackCalculator.pack("OTTER");
+        long afterWater = OpeningBook.next(OpeningBook.ROOT, water, 0);
+        assertEquals(afterWater, OpeningBook.next(OpeningBook.ROOT, water, 0));
+        assertNotEquals(afterWater, OpeningBook.next(OpeningBook.ROOT, water, 1));
+        assertNotEquals(afterWater, OpeningBook.next(OpeningBook.ROOT, otter, 0));
+        assertNotEquals(OpeningBook.next(afterWater, otter, 0),
+                OpeningBook.next(OpeningBook.next(OpeningBook.ROOT, otter, 0), water, 0));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        OpeningBook book = new OpeningBook(new EntropySolver(WORDS), 16);
+        long state = OpeningBook.ROOT;
+        for (int i = 0; i < 200; i++) {
+            state = OpeningBook.next(state, i, 0);
+            book.suggest(state, INDEX::newCandidateSet);
+        }
+        assertTrue(book.size() <= 16, "size " + book.size());
+        assertEquals(200 - book.size(), book.evictions());
+        book.suggest(state, INDEX::newCandidateSet);
+        assertEquals(1, book.hits());
+    }
+
+    @Test
+    void testSaveAndLoadRoundTrip() {
+        Path file = tempDir.resolve("book.bin");
+        OpeningBook book = new OpeningBook(new EntropySolver(WORDS), 64);
+        OpeningBook.Suggestion root = book.suggest(OpeningBook.ROOT, INDEX::newCandidateSet);
+        book.save(file);
+
+        OpeningBook warm = new OpeningBook(new EntropySolver(WORDS), 64);
+        assertEquals(1, warm.load(file));
+        assertEquals(root, warm.suggest(OpeningBook.ROOT, () -> {
+            throw new AssertionError("solver asked for a loaded position");
+        }));
+        assertEquals(0, warm.misses());
+    }
+
+    @Test
+    void testLoadRejectsOtherWordList() {
+        Path file = tempDir.resolve("book.bin");
+        OpeningBook book = new OpeningBook(new EntropySolver(WORDS), 64);
+        book.suggest(OpeningBook.ROOT, INDEX::newCandidateSet);
+        book.save(file);
+
+        List<String> other = List.of("LATER", "WATER", "HATER", "CATER", "OTTER", "CHALK", "WHELP",
+                "BANAL", "RADAR", "BOOKS");
+        OpeningBook reordered = new OpeningBook(new EntropySolver(WordStore.of(other)), 64);
+        assertEquals(0, reordered.load(file));
+        assertEquals(0, reordered.load(tempDir.resolve("missing.bin")));
+        assertEquals(0, reordered.size());
+    }
+}
@@ -0,0 +1,71 @@
+package com.wordle.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the AnswerPicker class.
+ */
+class AnswerPickerTest {
+    private static final int SIZE = 2315;
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 17);
+
+    @Test
+    void testSameSeedPicksSameAnswers() {
+        assertArrayEquals(pick(AnswerPicker.seeded(42), 100), pick(AnswerPicker.seeded(42), 100));
+        assertFalse(Arrays.equals(pick(AnswerPicker.seeded(42), 100), pick(AnswerPicker.seeded(43), 100)));
+    }
+
+    @Test
+    void testSplitsAreReproducibleAndIndependent() {
+        AnswerPicker a = AnswerPicker.seeded(7);
+        AnswerPicker b = AnswerPicker.seeded(7);
+        AnswerPicker firstA = a.split();
+        AnswerPicker secondA = a.split();
+        AnswerPicker firstB = b.split();
+        AnswerPicker secondB = b.split();
+
+        // the second worker's answers do not depend on how far the first has got
+        pick(firstA, 1000);
+        assertArrayEquals(pick(secondB, 50), pick(secondA, 50));
+        assertArrayEquals(pick(firstB, 1000), pick(AnswerPicker.seeded(7).split(), 1000));
+        assertFalse(Arrays.equals(pick(AnswerPicker.seeded(7).split(), 50), pick(secondB, 50)));
+    }
+
+    @Test
+    void testDailyDependsOnlyOnDate() {
+        int[] today = pick(AnswerPicker.daily(DAY), 10);
+        assertArrayEquals(today, pick(AnswerPicker.daily(DAY), 10));
+        assertNotEquals(today[0], AnswerPicker.daily(DAY.plusDays(1)).next(SIZE));
+
+        AnswerPicker played = AnswerPicker.daily(DAY);
+        pick(played, 5);
+        // every session starts at the word of the day
+        assertEquals(today[0], played.split().next(SIZE));
+        assertArrayEquals(today, pick(played.split(), 10));
+    }
+
+    @Test
+    void testStaysInRange() {
+        for (AnswerPicker picker : new AnswerPicker[] {AnswerPicker.random(), AnswerPicker.seeded(1), AnswerPicker.daily(DAY)}) {
+            for (int size = 1; size < 50; size++) {
+                int answer = picker.next(size);
+                assertTrue(answer >= 0 && answer < size, "answer " + answer + " of " + size);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> AnswerPicker.seeded(1).next(0));
+        assertThrows(IllegalArgumentException.class, () -> AnswerPicker.daily(DAY).next(0));
+    }
+
+    private static int[] pick(AnswerPicker picker, int count) {
+        int[] answers = new int[count];
+        for (int i = 0; i < count; i++) {
+            answers[i] = picker.next(SIZE);
+        }
+        return answers;
+    }
+}
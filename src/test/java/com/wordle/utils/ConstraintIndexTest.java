@@ -0,0 +1,52 @@
+package com.wordle.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ConstraintIndex and CandidateSet classes.
+ */
+class ConstraintIndexTest {
+    private static final List<String> WORDS = List.of(
+            "WATER", "OTTER", "LATER", "BANAL", "RADAR", "BOOKS", "SOOBO", "PAPER",
+            "PEPPY", "LEVEL", "EERIE", "ALALA", "ARRRA", "AAAAA", "EARTH", "TATER");
+
+    @Test
+    void testApplyMatchesBruteForceFilter() {
+        ConstraintIndex index = new ConstraintIndex(WORDS);
+        for (String answer : WORDS) {
+            for (String guess : WORDS) {
+                int code = FeedbackCalculator.computeFeedbackCode(FeedbackCalculator.pack(answer), FeedbackCalculator.pack(guess));
+                CandidateSet candidates = index.newCandidateSet();
+                candidates.apply(FeedbackCalculator.encode(guess), code);
+
+                List<String> expected = new ArrayList<>();
+                for (String word : WORDS) {
+                    if (FeedbackCalculator.computeFeedbackCode(FeedbackCalculator.pack(word), FeedbackCalculator.pack(guess)) == code) {
+                        expected.add(word);
+                    }
+                }
+                assertEquals(expected, candidates.words(), answer + " / " + guess);
+                assertTrue(candidates.contains(WORDS.indexOf(answer)));
+            }
+        }
+    }
+
+    @Test
+    void testCandidatesNarrowAcrossGuesses() {
+        ConstraintIndex index = new ConstraintIndex(WORDS);
+        CandidateSet candidates = index.newCandidateSet();
+        assertEquals(WORDS.size(), candidates.count());
+
+        candidates.apply("OTTER", FeedbackCalculator.computeFeedback("WATER", "OTTER"));
+        CandidateSet branch = candidates.copy();
+        candidates.apply("LATER", FeedbackCalculator.computeFeedback("WATER", "LATER"));
+
+        assertEquals(List.of("WATER"), candidates.words());
+        assertEquals(List.of("WATER", "LATER"), branch.words());
+    }
+}
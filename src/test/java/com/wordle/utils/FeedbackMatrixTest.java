@@ -0,0 +1,65 @@
+package com.wordle.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the FeedbackMatrix class.
+ */
+class FeedbackMatrixTest {
+    private static final List<String> ANSWERS = List.of("WATER", "BANAL", "RADAR", "BOOKS");
+    private static final List<String> GUESSES = List.of("OTTER", "ALALA", "ARRRA", "SOOBO", "WATER");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCellsMatchFeedbackCalculator() {
+        FeedbackMatrix matrix = FeedbackMatrix.compute(ANSWERS, GUESSES);
+        assertMatchesCalculator(matrix);
+    }
+
+    @Test
+    void testSaveAndLoadRoundTrip() {
+        Path file = tempDir.resolve("matrix.bin");
+        FeedbackMatrix.compute(ANSWERS, GUESSES).save(file);
+
+        Optional<FeedbackMatrix> loaded = FeedbackMatrix.load(file, ANSWERS, GUESSES);
+        assertTrue(loaded.isPresent());
+        assertMatchesCalculator(loaded.get());
+    }
+
+    @Test
+    void testLoadRejectsOtherWordList() {
+        Path file = tempDir.resolve("matrix.bin");
+        FeedbackMatrix.compute(ANSWERS, GUESSES).save(file);
+
+        List<String> reordered = List.of("BANAL", "WATER", "RADAR", "BOOKS");
+        assertTrue(FeedbackMatrix.load(file, reordered, GUESSES).isEmpty());
+        assertTrue(FeedbackMatrix.load(tempDir.resolve("missing.bin"), ANSWERS, GUESSES).isEmpty());
+    }
+
+    @Test
+    void testLoadOrComputeWritesCache() {
+        Path file = tempDir.resolve("matrix.bin");
+        assertMatchesCalculator(FeedbackMatrix.loadOrCompute(file, ANSWERS, GUESSES));
+        assertTrue(Files.isRegularFile(file));
+        assertMatchesCalculator(FeedbackMatrix.loadOrCompute(file, ANSWERS, GUESSES));
+    }
+
+    private static void assertMatchesCalculator(FeedbackMatrix matrix) {
+        for (int a = 0; a < ANSWERS.size(); a++) {
+            for (int g = 0; g < GUESSES.size(); g++) {
+                assertEquals(FeedbackCalculator.computeFeedback(ANSWERS.get(a), GUESSES.get(g)),
+                        FeedbackCalculator.decode(matrix.code(a, g)));
+            }
+        }
+    }
+}
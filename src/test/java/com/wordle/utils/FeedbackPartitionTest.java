@@ -0,0 +1,74 @@
+package com.wordle.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the FeedbackPartition class.
+ */
+class FeedbackPartitionTest {
+    private static final WordStore WORDS = WordStore.of(List.of("WATER", "LATER", "HATER", "OTTER", "CHALK", "WHELP"));
+
+    @Test
+    void testKeepsLargestBucketInOrder() {
+        FeedbackPartition partition = new FeedbackPartition(WORDS);
+        int[] candidates = {0, 1, 2, 3, 4, 5};
+        int code = partition.keepLargest(candidates, 6, FeedbackCalculator.pack("DOING"));
+
+        // DOING shares only the O of OTTER, so everything else shows all absent
+        assertEquals(0, code);
+        assertEquals(5, partition.kept());
+        assertArrayEquals(new int[] {0, 1, 2, 4, 5}, Arrays.copyOf(candidates, 5));
+    }
+
+    @Test
+    void testKeptBucketMatchesBruteForce() {
+        List<String> list = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 3000; i++) {
+            char[] word = new char[5];
+            for (int j = 0; j < word.length; j++) {
+                word[j] = "AEIRSTLNOC".charAt(random.nextInt(10));
+            }
+            list.add(new String(word));
+        }
+        WordStore words = WordStore.of(list);
+        FeedbackPartition partition = new FeedbackPartition(words);
+        int[] candidates = new int[words.size()];
+        Arrays.setAll(candidates, i -> i);
+        int count = candidates.length;
+
+        for (String guess : List.of("RAISE", "CLOTS", "NOTES")) {
+            long packed = FeedbackCalculator.pack(guess);
+            int[] sizes = new int[FeedbackCalculator.patternCount(5)];
+            for (int i = 0; i < count; i++) {
+                sizes[FeedbackCalculator.computeFeedbackCode(words.packed(candidates[i]), packed)]++;
+            }
+            int code = partition.keepLargest(candidates, count, packed);
+            assertEquals(Arrays.stream(sizes).max().orElseThrow(), sizes[code]);
+            count = partition.kept();
+            for (int i = 0; i < count; i++) {
+                assertEquals(code, FeedbackCalculator.computeFeedbackCode(words.packed(candidates[i]), packed));
+            }
+        }
+    }
+
+    @Test
+    void testGuessIsOnlySolvedWhenLastCandidate() {
+        FeedbackPartition partition = new FeedbackPartition(WORDS);
+        long water = FeedbackCalculator.pack("WATER");
+        int[] pair = {0, 3};
+        assertNotEquals(FeedbackCalculator.ALL_GREEN, partition.keepLargest(pair, 2, water));
+        assertEquals(3, pair[0]);
+
+        int[] single = {0};
+        assertEquals(FeedbackCalculator.ALL_GREEN, partition.keepLargest(single, 1, water));
+        assertThrows(IllegalArgumentException.class, () -> partition.keepLargest(single, 0, water));
+    }
+}
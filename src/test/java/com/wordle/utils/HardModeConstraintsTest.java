@@ -0,0 +1,102 @@
+package com.wordle.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the HardModeConstraints class.
+ */
+class HardModeConstraintsTest {
+    private static final List<String> WORDS = List.of(
+            "WATER", "OTTER", "LATER", "BANAL", "RADAR", "BOOKS", "PAPER", "PEPPY",
+            "LEVEL", "EERIE", "ALALA", "ARRRA", "EARTH", "TATER", "TREAT", "STEER");
+
+    @Test
+    void testEmptyConstraintsAllowEverything() {
+        HardModeConstraints constraints = new HardModeConstraints(5);
+        for (String word : WORDS) {
+            assertNull(constraints.violation(FeedbackCalculator.pack(word)));
+        }
+    }
+
+    @Test
+    void testGreenAndYellowMessages() {
+        HardModeConstraints constraints = new HardModeConstraints(5);
+        // answer TATER, guess EARTH: E, R, T yellow, A green
+        update(constraints, "TATER", "EARTH");
+
+        assertEquals("2nd letter must be A", constraints.violation(FeedbackCalculator.pack("OTTER")));
+        assertEquals("Guess must contain R", constraints.violation(FeedbackCalculator.pack("EATTY")));
+        assertEquals("Guess must contain E", constraints.violation(FeedbackCalculator.pack("TARTS")));
+        assertTrue(constraints.allows(FeedbackCalculator.pack("WATER")));
+    }
+
+    @Test
+    void testRepeatedLetterNeedsMinimumCount() {
+        HardModeConstraints constraints = new HardModeConstraints(5);
+        // answer STEER, guess EERIE: both leading Es are yellow, the last one absent
+        update(constraints, "STEER", "EERIE");
+
+        assertEquals("Guess must contain 2 Es", constraints.violation(FeedbackCalculator.pack("WATER")));
+        assertTrue(constraints.allows(FeedbackCalculator.pack("STEER")));
+    }
+
+    @Test
+    void testMatchesDefinitionForAllPairs() {
+        for (String answer : WORDS) {
+            for (String first : WORDS) {
+                HardModeConstraints constraints = new HardModeConstraints(5);
+                update(constraints, answer, first);
+                List<?> hints = FeedbackCalculator.computeFeedback(answer, first);
+                for (String guess : WORDS) {
+                    assertEquals(reuses(first, hints, guess), constraints.allows(FeedbackCalculator.pack(guess)),
+                            answer + " / " + first + " / " + guess);
+                }
+                assertTrue(constraints.allows(FeedbackCalculator.pack(answer)));
+            }
+        }
+    }
+
+    @Test
+    void testOtherWordLength() {
+        HardModeConstraints constraints = new HardModeConstraints(7);
+        constraints.update(FeedbackCalculator.pack("CABBAGE", 7),
+                FeedbackCalculator.computeFeedbackCode(FeedbackCalculator.pack("GARBAGE", 7), FeedbackCalculator.pack("CABBAGE", 7), 7));
+        assertEquals("7th letter must be E", constraints.violation(FeedbackCalculator.pack("GARBAGZ", 7)));
+        assertNull(constraints.violation(FeedbackCalculator.pack("GARBAGE", 7)));
+    }
+
+    private static void update(HardModeConstraints constraints, String answer, String guess) {
+        long packedGuess = FeedbackCalculator.pack(guess);
+        constraints.update(packedGuess, FeedbackCalculator.computeFeedbackCode(FeedbackCalculator.pack(answer), packedGuess));
+    }
+
+    /**
+     * Hard-mode rule spelled out: GREEN letters stay in place and every GREEN or YELLOW
+     * letter is used at least as often as it was revealed.
+     */
+    private static boolean reuses(String previous, List<?> hints, String guess) {
+        int[] needed = new int[26];
+        for (int i = 0; i < previous.length(); i++) {
+            String hint = hints.get(i).toString();
+            if (hint.equals("GREEN") && guess.charAt(i) != previous.charAt(i)) {
+                return false;
+            }
+            if (!hint.equals("ABSENT")) {
+                needed[previous.charAt(i) - 'A']++;
+            }
+        }
+        for (char c : guess.toCharArray()) {
+            needed[c - 'A']--;
+        }
+        for (int n : needed) {
+            if (n > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+package com.wordle.utils;
+
+import com.wordle.exception.NoValidWordsInFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the WordListLoader class.
+ */
+class WordListLoaderTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testPackedLoaderMatchesLoad() throws IOException {
+        Path file = write("water\n  Otter \r\nBANAL\rtoolong\nfour\nab1de\n\tRadar\t\n\nnaïve\nbooks");
+
+        List<String> expected = List.of("WATER", "OTTER", "BANAL", "RADAR", "BOOKS");
+        assertEquals(expected, WordListLoader.load(file));
+        assertEquals(expected, WordListLoader.loadPacked(file));
+    }
+
+    @Test
+    void testPackedWordsCanBeReadWithoutStrings() throws IOException {
+        Path file = write("water\nOTTER\n");
+        WordStore words = WordListLoader.loadPacked(file);
+
+        assertEquals(FeedbackCalculator.pack("WATER"), words.packed(0));
+        assertEquals(FeedbackCalculator.pack("OTTER"), words.packed(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> words.packed(2));
+    }
+
+    @Test
+    void testLoadOtherWordLength() throws IOException {
+        Path file = write("water\nbanana\n orange\nkiwi\nstrawberry\n");
+
+        assertEquals(List.of("BANANA", "ORANGE"), WordListLoader.load(file, 6));
+        assertEquals(List.of("BANANA", "ORANGE"), WordListLoader.loadPacked(file, 6));
+        assertEquals(List.of("KIWI"), WordListLoader.loadPacked(file, 4));
+    }
+
+    @Test
+    void testNoValidWords() throws IOException {
+        Path file = write("four\nsixsix\n");
+        assertThrows(NoValidWordsInFile.class, () -> WordListLoader.load(file));
+        assertThrows(NoValidWordsInFile.class, () -> WordListLoader.loadPacked(file));
+        assertThrows(NoValidWordsInFile.class, () -> WordListLoader.loadPacked(write("")));
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = Files.createTempFile(tempDir, "words", ".txt");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,62 @@
+package com.wordle.utils;
+
+import com.wordle.exception.InvalidWordLengthException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the WordStore class.
+ */
+class WordStoreTest {
+
+    @Test
+    void testRoundTripAndLookup() {
+        List<String> words = List.of("WATER", "otter", "BANAL", "WATER", "RADAR");
+        WordStore store = WordStore.of(words);
+
+        assertEquals(List.of("WATER", "OTTER", "BANAL", "WATER", "RADAR"), store);
+        assertEquals(0, store.indexOf("WATER"));
+        assertEquals(1, store.indexOf(store.encode("otter")));
+        assertTrue(store.contains("RADAR"));
+        assertFalse(store.contains("LATER"));
+        assertFalse(store.contains("water"));
+        assertFalse(store.contains("WATERS"));
+        assertEquals(-1, store.indexOf(store.encode("LATER")));
+        assertSame(store, WordStore.of(store));
+    }
+
+    @Test
+    void testLookupOnLargeStore() {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 26 * 26 * 26; i++) {
+            words.add("" + (char) ('A' + i % 26) + (char) ('A' + i / 26 % 26) + (char) ('A' + i / 676) + "ZZ");
+        }
+        WordStore store = WordStore.of(words);
+        for (int i = 0; i < words.size(); i++) {
+            assertEquals(i, store.indexOf(words.get(i)));
+        }
+        assertFalse(store.contains("ZZZZA"));
+    }
+
+    @Test
+    void testOtherWordLength() {
+        WordStore store = WordStore.of(List.of("ORANGE", "banana"), 6);
+
+        assertEquals(6, store.length());
+        assertEquals(List.of("ORANGE", "BANANA"), store);
+        assertEquals(1, store.indexOf("BANANA"));
+        assertFalse(store.contains("WATER"));
+        assertThrows(InvalidWordLengthException.class, () -> WordStore.of(List.of("WATER"), 6));
+        assertThrows(InvalidWordLengthException.class, () -> WordStore.of(List.of("WATER"), 9));
+    }
+
+    @Test
+    void testInvalidWordsRejected() {
+        assertThrows(InvalidWordLengthException.class, () -> WordStore.of(List.of("WATERS")));
+        assertThrows(IllegalArgumentException.class, () -> WordStore.of(List.of("WAT3R")));
+    }
+}
@@ -0,0 +1,59 @@
+package com.wordle.utils;
+
+import com.wordle.exception.InvalidWordLengthException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the WordValidator class.
+ */
+class WordValidatorTest {
+
+    @Test
+    void testParsePacksLikeFeedbackCalculator() {
+        WordValidator validator = WordValidator.of(5);
+        assertEquals(FeedbackCalculator.pack("WATER"), validator.parse("water"));
+        assertEquals(FeedbackCalculator.pack("WATER"), validator.parse(" \tWaTeR\r\n"));
+        assertEquals(FeedbackCalculator.pack("ZEBRA"), validator.parse("zebra"));
+    }
+
+    @Test
+    void testRejectsAnythingButLetters() {
+        WordValidator validator = WordValidator.of(5);
+        for (String input : new String[]{null, "", "     ", "wat3r", "wat r", "water!", "waters", "wate", "naïve",
+                "[abcd", "@bcde", "`bcde", "{bcde"}) {
+            assertEquals(WordValidator.INVALID, validator.parse(input), String.valueOf(input));
+            assertNull(validator.normalize(input), String.valueOf(input));
+        }
+    }
+
+    @Test
+    void testNormalize() {
+        assertEquals("WATER", WordValidator.of(5).normalize("  water "));
+        assertEquals("BOOK", WordValidator.of(4).normalize("book"));
+        assertEquals("ABSOLUTE", WordValidator.of(8).normalize("Absolute"));
+        assertNull(WordValidator.of(6).normalize("water"));
+    }
+
+    @Test
+    void testParseBytes() {
+        ByteBuffer buffer = ByteBuffer.wrap("xx  Otter \nab1de".getBytes(StandardCharsets.US_ASCII));
+        WordValidator validator = WordValidator.of(5);
+        assertEquals(FeedbackCalculator.pack("OTTER"), validator.parse(buffer, 2, 10));
+        assertEquals(WordValidator.INVALID, validator.parse(buffer, 11, 16));
+        assertEquals(WordValidator.INVALID, validator.parse(buffer, 0, 10));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void testValidatorsAreShared() {
+        assertSame(WordValidator.of(5), WordValidator.of(5));
+        assertEquals(7, WordValidator.of(7).length());
+        assertThrows(InvalidWordLengthException.class, () -> WordValidator.of(3));
+        assertThrows(InvalidWordLengthException.class, () -> WordValidator.of(9));
+    }
+}